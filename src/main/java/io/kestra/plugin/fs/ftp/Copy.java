@@ -0,0 +1,78 @@
+package io.kestra.plugin.fs.ftp;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileSystemOptions;
+
+import java.io.IOException;
+import java.net.Proxy;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Copy an FTP file or directory",
+    description = "Copies a remote file or directory to another path of the same server; destination directories are created when missing. FTP has no server-side copy, so the content is streamed from the source to the destination without going through internal storage. Defaults: port 21, passive mode on, remote IP verification on, paths relative to user home."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: fs_ftp_copy
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.fs.ftp.Copy
+                    host: localhost
+                    port: 21
+                    username: foo
+                    password: "{{ secret('FTP_PASSWORD') }}"
+                    from: "/upload/dir1/file.txt"
+                    to: "/upload/backup/file.txt"
+                """
+        )
+    }
+)
+public class Copy extends io.kestra.plugin.fs.vfs.Copy implements FtpInterface {
+    @PluginProperty(group = "connection")
+    protected Property<String> proxyHost;
+    @PluginProperty(group = "connection")
+    protected Property<String> proxyPort;
+    protected Property<Proxy.Type> proxyType;
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> rootDir = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    protected Property<String> port = Property.ofValue("21");
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> passiveMode = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> remoteIpVerification = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Options options = Options.builder().build();
+
+    @Override
+    protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
+        return FtpService.fsOptions(runContext, this);
+    }
+
+    @Override
+    protected String scheme() {
+        return "ftp";
+    }
+}
@@ -5,6 +5,7 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.ChecksumService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -12,6 +13,7 @@ import org.apache.commons.vfs2.FileSystemOptions;
 
 import java.io.IOException;
 import java.net.Proxy;
+import java.net.URI;
 import java.time.Duration;
 import io.kestra.core.models.annotations.PluginProperty;
 
@@ -66,6 +68,11 @@ public class Download extends io.kestra.plugin.fs.vfs.Download implements FtpInt
     @PluginProperty(group = "advanced")
     protected Options options = Options.builder().build();
 
+    @Override
+    protected String remoteChecksum(RunContext runContext, URI from, ChecksumService.Algorithm algorithm) throws Exception {
+        return FtpService.remoteChecksum(runContext, () -> FtpService.client(runContext, this, this), this, from, algorithm);
+    }
+
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
         return FtpService.fsOptions(runContext, this);
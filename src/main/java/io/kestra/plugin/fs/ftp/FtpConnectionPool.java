@@ -0,0 +1,238 @@
+package io.kestra.plugin.fs.ftp;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.FileUtils;
+import io.kestra.plugin.fs.vfs.AdaptiveConcurrency;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.Download;
+import io.kestra.plugin.fs.vfs.Upload;
+import io.kestra.plugin.fs.vfs.VfsDownloadRequest;
+import io.kestra.plugin.fs.vfs.VfsService;
+import io.kestra.plugin.fs.vfs.VfsUploadRequest;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPConnectionClosedException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
+
+/**
+ * Logged-in control connections to one server for one user, reused across the files of a task. FTP allows a single
+ * transfer per control connection, so each file in flight holds its own connection, and the connect, login and
+ * `PASV` setup is paid once per connection instead of once per file.
+ * <p>
+ * Idle connections are validated with `NOOP` before being reused, and kept alive during long transfers with the
+ * `controlKeepAliveTimeout` option.
+ */
+public final class FtpConnectionPool implements AutoCloseable {
+    private final RunContext runContext;
+    private final FtpInterface ftpInterface;
+    private final FtpService.ClientFactory clients;
+    private final int size;
+    private final Semaphore permits;
+    private final BlockingDeque<FTPClient> idle = new LinkedBlockingDeque<>();
+    private final AdaptiveConcurrency adaptiveConcurrency;
+
+    public FtpConnectionPool(RunContext runContext, FtpInterface ftpInterface, int size, FtpService.ClientFactory clients) {
+        this(runContext, ftpInterface, size, false, clients);
+    }
+
+    /**
+     * @param adaptive whether the files are transferred with a concurrency tuned between 1 and `size` while they run,
+     *                 instead of always `size` at a time
+     */
+    public FtpConnectionPool(RunContext runContext, FtpInterface ftpInterface, int size, boolean adaptive, FtpService.ClientFactory clients) {
+        if (size < 1) {
+            throw new IllegalArgumentException("`concurrency` must be at least 1, got " + size);
+        }
+
+        this.runContext = runContext;
+        this.ftpInterface = ftpInterface;
+        this.clients = clients;
+        this.size = size;
+        this.permits = new Semaphore(size);
+        this.adaptiveConcurrency = adaptive ? new AdaptiveConcurrency(runContext, size, FtpConnectionPool::isOverloaded) : null;
+    }
+
+    /**
+     * `421` replies: too many users, or a connection closed by the server.
+     */
+    private static boolean isOverloaded(Exception e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof FTPConnectionClosedException || (cause.getMessage() != null && cause.getMessage().contains(": 421"))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @FunctionalInterface
+    public interface ClientAction<T> {
+        T apply(FTPClient client) throws Exception;
+    }
+
+    /**
+     * Runs the action with a connection of the pool, waiting for one when all are in use.
+     */
+    public <T> T execute(ClientAction<T> action) throws Exception {
+        permits.acquire();
+        try {
+            FTPClient client = this.borrow();
+            T result;
+            try {
+                result = action.apply(client);
+            } catch (Exception e) {
+                // a failed transfer may leave a pending reply (e.g. `226` or `426`) on the control connection, that the
+                // next command would read as its own
+                FtpService.disconnectQuietly(client);
+                throw e;
+            }
+
+            idle.offerFirst(client);
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private FTPClient borrow() throws IOException, IllegalVariableEvaluationException {
+        FTPClient client;
+        while ((client = idle.pollFirst()) != null) {
+            if (isValid(client)) {
+                return client;
+            }
+
+            runContext.logger().debug("Dropping a stale FTP control connection");
+            FtpService.disconnectQuietly(client);
+        }
+
+        return clients.open();
+    }
+
+    private static boolean isValid(FTPClient client) {
+        try {
+            return client.isConnected() && client.sendNoOp();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Downloads the files over the connections of the pool, as many at a time as there are connections, an interrupted
+     * file being resumed with `REST` up to `resumeAttempts` times.
+     *
+     * @return the outputs, in the order of the requests
+     */
+    public List<Download.Output> download(List<VfsDownloadRequest> requests) throws Exception {
+        Download.Output[] outputs = new Download.Output[requests.size()];
+
+        this.forEach(IntStream.range(0, requests.size()).boxed().toList(), index -> {
+            VfsDownloadRequest request = requests.get(index);
+            String remotePath = FtpService.remotePath(runContext, ftpInterface, request.from().getPath());
+            File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(request.from())).toFile();
+
+            int resumes = 0;
+            while (true) {
+                try {
+                    this.execute(client -> {
+                        retrieve(client, remotePath, tempFile, request.bandwidth());
+                        return null;
+                    });
+                    break;
+                } catch (IOException e) {
+                    if (resumes >= request.resumeAttempts() || tempFile.length() == 0) {
+                        throw e;
+                    }
+
+                    resumes++;
+                    runContext.logger().warn(
+                        "Download of '{}' interrupted after {} bytes, resuming ({}/{}): {}",
+                        VfsService.uriWithoutAuth(request.from()), tempFile.length(), resumes, request.resumeAttempts(), e.getMessage()
+                    );
+                }
+            }
+
+            outputs[index] = VfsService.store(request, tempFile);
+
+            return tempFile.length();
+        });
+
+        return Arrays.asList(outputs);
+    }
+
+    private static void retrieve(FTPClient client, String remotePath, File tempFile, Bandwidth bandwidth) throws IOException {
+        long offset = tempFile.length();
+
+        client.setRestartOffset(offset);
+        try (OutputStream out = bandwidth.wrap(new FileOutputStream(tempFile, offset > 0))) {
+            if (!client.retrieveFile(remotePath, out)) {
+                throw new IOException("Unable to download '" + remotePath + "': " + client.getReplyString().strip());
+            }
+        } finally {
+            client.setRestartOffset(0);
+        }
+    }
+
+    /**
+     * Uploads the files, as many at a time as there are connections. The checks and the final size verification of
+     * each file go through Commons VFS, only the content is sent over the connections of the pool.
+     *
+     * @return the outputs, in the order of the requests
+     */
+    public List<Upload.Output> upload(List<VfsUploadRequest> requests) throws Exception {
+        Upload.Output[] outputs = new Upload.Output[requests.size()];
+
+        this.forEach(IntStream.range(0, requests.size()).boxed().toList(), index -> {
+            VfsUploadRequest request = requests.get(index);
+            VfsUploadRequest.Writer writer = this.writer(request.bandwidth());
+            long[] sent = new long[1];
+            outputs[index] = VfsService.upload(request.withWriter((local, remotePath, length) -> {
+                sent[0] = length;
+                return writer.write(local, remotePath, length);
+            }));
+
+            return sent[0];
+        });
+
+        return Arrays.asList(outputs);
+    }
+
+    private VfsUploadRequest.Writer writer(Bandwidth bandwidth) {
+        return (local, remotePath, length) -> this.execute(client -> {
+            try (InputStream in = bandwidth.wrap(Files.newInputStream(local.toPath()))) {
+                if (!client.storeFile(FtpService.remotePath(runContext, ftpInterface, remotePath), in)) {
+                    throw new IOException("Unable to upload '" + remotePath + "': " + client.getReplyString().strip());
+                }
+            }
+
+            return true;
+        });
+    }
+
+    private void forEach(List<Integer> indexes, AdaptiveConcurrency.Transfer<Integer> transfer) throws Exception {
+        if (adaptiveConcurrency != null) {
+            adaptiveConcurrency.forEach(indexes, transfer);
+        } else {
+            VfsService.forEachConcurrently(indexes, size, transfer::apply);
+        }
+    }
+
+    @Override
+    public void close() {
+        FTPClient client;
+        while ((client = idle.pollFirst()) != null) {
+            FtpService.disconnectQuietly(client);
+        }
+    }
+}
@@ -90,5 +90,62 @@ public interface FtpInterface {
         )
         @Builder.Default
         Property<Duration> controlKeepAliveReplyTimeout = Property.ofValue(Duration.ofSeconds(30));
+
+        @Schema(
+            title = "List directories with MLSD",
+            description = "When the server advertises `MLST` in its features, listings use `MLSD`, whose machine-readable entries carry the exact size, modification time and type of each file. " +
+                "Otherwise, or when disabled, listings parse the server-specific `LIST` output. Default true."
+        )
+        @Builder.Default
+        Property<Boolean> useMlsd = Property.ofValue(true);
+
+        @Schema(
+            title = "Socket and buffer tuning",
+            description = "Applies to the connections opened directly by the plugin: concurrent transfers, `MLSD` listings, server checksums and server-to-server transfers. " +
+                "Commons VFS connections keep the operating system defaults."
+        )
+        Transfer transfer;
+    }
+
+    @Getter
+    @Builder(toBuilder = true)
+    @Jacksonized
+    class Transfer {
+        @Schema(
+            title = "Preset of the settings below",
+            description = "`DEFAULT` keeps the operating system and commons-net defaults. `HIGH_LATENCY` requests 4 MiB socket buffers, so that the TCP window can cover the bandwidth-delay product of long fat links, and copies files through 1 MiB buffers. " +
+                "Settings set explicitly take precedence over the preset."
+        )
+        @Builder.Default
+        Property<Profile> profile = Property.ofValue(Profile.DEFAULT);
+
+        @Schema(
+            title = "Socket send buffer size in bytes",
+            description = "`SO_SNDBUF` of the control and data sockets. The operating system may cap it, e.g. with `net.core.wmem_max` on Linux."
+        )
+        Property<Integer> sendBufferSize;
+
+        @Schema(
+            title = "Socket receive buffer size in bytes",
+            description = "`SO_RCVBUF` of the control and data sockets, set before connecting so that TCP window scaling is negotiated accordingly. The operating system may cap it, e.g. with `net.core.rmem_max` on Linux."
+        )
+        Property<Integer> receiveBufferSize;
+
+        @Schema(
+            title = "File transfer buffer size in bytes",
+            description = "Size of the buffer through which commons-net copies the content of each file between the data socket and the local file."
+        )
+        Property<Integer> bufferSize;
+
+        @Schema(
+            title = "Disable Nagle's algorithm on the control connection",
+            description = "Sends each command immediately instead of waiting to coalesce small packets, which shortens the round trip of every command. Default true."
+        )
+        Property<Boolean> tcpNoDelay;
+
+        public enum Profile {
+            DEFAULT,
+            HIGH_LATENCY
+        }
     }
 }
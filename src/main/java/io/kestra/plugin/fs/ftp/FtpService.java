@@ -2,15 +2,35 @@ package io.kestra.plugin.fs.ftp;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.AbstractVfsInterface;
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.VfsService;
+import io.kestra.plugin.fs.vfs.models.File;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.net.ftp.FTP;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.net.ftp.FTPReply;
 import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.provider.ftp.FtpFileSystemConfigBuilder;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.regex.Pattern;
 
 public abstract class FtpService {
+    private static final int HIGH_LATENCY_SOCKET_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final int HIGH_LATENCY_BUFFER_SIZE = 1024 * 1024;
+    private static final Pattern SELF_OR_PARENT = Pattern.compile("(^|;)type=(cdir|pdir)(;|\\s)", Pattern.CASE_INSENSITIVE);
+
     public static FileSystemOptions fsOptions(RunContext runContext, FtpInterface ftpInterface) throws IOException, IllegalVariableEvaluationException {
         FtpFileSystemConfigBuilder instance = FtpFileSystemConfigBuilder.getInstance();
 
@@ -68,4 +88,297 @@ public abstract class FtpService {
 
         return options;
     }
+
+    /**
+     * A native client, connected and logged in with the same settings as the VFS provider, for the commands VFS doesn't expose.
+     */
+    public static FTPClient client(RunContext runContext, AbstractVfsInterface vfsInterface, FtpInterface ftpInterface) throws IOException, IllegalVariableEvaluationException {
+        return connect(runContext, vfsInterface, ftpInterface, new FTPClient(), "21");
+    }
+
+    @FunctionalInterface
+    public interface ClientFactory {
+        FTPClient open() throws IOException, IllegalVariableEvaluationException;
+    }
+
+    /**
+     * Lists with `MLSD`, so that size, modification time and type come from a single machine-readable reply per directory.
+     *
+     * @param from the VFS uri of the directory, whose scheme and authority are kept on the listed files
+     * @return the files, or null when `useMlsd` is disabled, the server doesn't advertise `MLST` or the listing failed,
+     * the caller then lists with `LIST`
+     */
+    public static io.kestra.plugin.fs.vfs.List.Output list(
+        RunContext runContext,
+        FtpInterface ftpInterface,
+        ClientFactory clients,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws IllegalVariableEvaluationException, URISyntaxException {
+        FtpInterface.Options options = ftpInterface.getOptions() != null ? ftpInterface.getOptions() : FtpInterface.Options.builder().build();
+        if (!runContext.render(options.getUseMlsd()).as(Boolean.class).orElse(true)) {
+            return null;
+        }
+
+        FTPClient client = null;
+        try {
+            client = clients.open();
+            if (!client.hasFeature("MLST") && !client.hasFeature("MLSD")) {
+                runContext.logger().debug("The server doesn't support MLSD, listing '{}' with LIST", VfsService.uriWithoutAuth(from));
+                return null;
+            }
+
+            java.util.List<File> files = new ArrayList<>();
+            Deque<String> directories = new ArrayDeque<>();
+            directories.add(StringUtils.removeEnd(from.getPath(), "/"));
+
+            while (!directories.isEmpty()) {
+                String directory = directories.poll();
+                for (FTPFile entry : client.mlistDir(remotePath(runContext, ftpInterface, directory.isEmpty() ? "/" : directory))) {
+                    if (entry == null || isSelfOrParent(entry)) {
+                        continue;
+                    }
+
+                    String path = directory + "/" + entry.getName();
+                    if (entry.isDirectory()) {
+                        if (recursive) {
+                            directories.add(path);
+                        }
+                    } else if (entry.isFile() && (regExp == null || path.matches(regExp))) {
+                        files.add(File.of(new URI(from.getScheme(), from.getUserInfo(), from.getHost(), from.getPort(), path, null, null), entry));
+                    }
+                }
+            }
+
+            runContext.logger().debug("Found '{}' files from '{}' with MLSD", files.size(), VfsService.uriWithoutAuth(from));
+
+            return io.kestra.plugin.fs.vfs.List.Output.builder()
+                .files(files)
+                .build();
+        } catch (IOException e) {
+            // e.g. a side connection refused by a per-user limit, or a TLS or proxy issue that Commons VFS doesn't have
+            runContext.logger().debug("Unable to list '{}' with MLSD, listing with LIST: {}", VfsService.uriWithoutAuth(from), e.getMessage());
+            return null;
+        } finally {
+            if (client != null) {
+                disconnectQuietly(client);
+            }
+        }
+    }
+
+    // MLSD may return the listed directory and its parent, typed `cdir` and `pdir`
+    static boolean isSelfOrParent(FTPFile entry) {
+        String raw = entry.getRawListing();
+        return entry.getName() == null
+            || entry.getName().equals(".")
+            || entry.getName().equals("..")
+            || (raw != null && SELF_OR_PARENT.matcher(raw).find());
+    }
+
+    public static <T extends FTPClient> T connect(
+        RunContext runContext,
+        AbstractVfsInterface vfsInterface,
+        FtpInterface ftpInterface,
+        T client,
+        String defaultPort
+    ) throws IOException, IllegalVariableEvaluationException {
+        if (ftpInterface.getProxyType() != null && ftpInterface.getProxyHost() != null) {
+            client.setProxy(new Proxy(
+                runContext.render(ftpInterface.getProxyType()).as(Proxy.Type.class).orElseThrow(),
+                new InetSocketAddress(
+                    runContext.render(ftpInterface.getProxyHost()).as(String.class).orElseThrow(),
+                    Integer.parseInt(runContext.render(ftpInterface.getProxyPort()).as(String.class).orElseThrow())
+                )
+            ));
+        }
+
+        FtpInterface.Options options = ftpInterface.getOptions() != null ? ftpInterface.getOptions() : FtpInterface.Options.builder().build();
+        Duration connectionTimeout = runContext.render(options.getConnectionTimeout()).as(Duration.class).orElse(Duration.ofSeconds(30));
+        Duration socketTimeout = runContext.render(options.getSocketTimeout()).as(Duration.class).orElse(Duration.ofSeconds(30));
+
+        client.setConnectTimeout((int) connectionTimeout.toMillis());
+        client.setDefaultTimeout((int) socketTimeout.toMillis());
+        runContext.render(options.getDataTimeout()).as(Duration.class).ifPresent(client::setDataTimeout);
+        runContext.render(options.getControlKeepAliveTimeout()).as(Duration.class).ifPresent(client::setControlKeepAliveTimeout);
+        runContext.render(options.getControlKeepAliveReplyTimeout()).as(Duration.class).ifPresent(client::setControlKeepAliveReplyTimeout);
+        client.setRemoteVerificationEnabled(runContext.render(ftpInterface.getRemoteIpVerification()).as(Boolean.class).orElse(true));
+
+        TransferSettings transfer = transfer(runContext, options);
+        if (transfer.sendBufferSize() != null) {
+            client.setSendBufferSize(transfer.sendBufferSize());
+            client.setSendDataSocketBufferSize(transfer.sendBufferSize());
+        }
+
+        if (transfer.receiveBufferSize() != null) {
+            client.setReceiveBufferSize(transfer.receiveBufferSize());
+            client.setReceieveDataSocketBufferSize(transfer.receiveBufferSize());
+        }
+
+        if (transfer.bufferSize() != null) {
+            client.setBufferSize(transfer.bufferSize());
+        }
+
+        client.connect(
+            runContext.render(vfsInterface.getHost()).as(String.class).orElseThrow(),
+            Integer.parseInt(runContext.render(vfsInterface.getPort()).as(String.class).orElse(defaultPort))
+        );
+
+        try {
+            client.setTcpNoDelay(transfer.tcpNoDelay());
+
+            if (!FTPReply.isPositiveCompletion(client.getReplyCode())) {
+                throw new IOException("FTP server refused the connection: " + client.getReplyString());
+            }
+
+            // same default as the VFS provider
+            String username = runContext.render(vfsInterface.getUsername()).as(String.class).orElse("anonymous");
+            String password = runContext.render(vfsInterface.getPassword()).as(String.class).orElse("anonymous");
+            if (!client.login(username, password)) {
+                throw new IOException("FTP login failed for user '" + username + "': " + client.getReplyString());
+            }
+
+            client.setFileType(FTP.BINARY_FILE_TYPE);
+
+            if (runContext.render(ftpInterface.getPassiveMode()).as(Boolean.class).orElse(true)) {
+                client.enterLocalPassiveMode();
+            }
+
+            return client;
+        } catch (IOException | RuntimeException e) {
+            client.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * The `options.transfer` settings of the task, with the values of its profile for the unset ones.
+     */
+    static TransferSettings transfer(RunContext runContext, FtpInterface.Options options) throws IllegalVariableEvaluationException {
+        FtpInterface.Transfer transfer = options.getTransfer();
+        if (transfer == null) {
+            return new TransferSettings(null, null, null, true);
+        }
+
+        TransferSettings profile = switch (runContext.render(transfer.getProfile()).as(FtpInterface.Transfer.Profile.class).orElse(FtpInterface.Transfer.Profile.DEFAULT)) {
+            case DEFAULT -> new TransferSettings(null, null, null, true);
+            case HIGH_LATENCY -> new TransferSettings(HIGH_LATENCY_SOCKET_BUFFER_SIZE, HIGH_LATENCY_SOCKET_BUFFER_SIZE, HIGH_LATENCY_BUFFER_SIZE, true);
+        };
+
+        TransferSettings rendered = new TransferSettings(
+            runContext.render(transfer.getSendBufferSize()).as(Integer.class).orElse(profile.sendBufferSize()),
+            runContext.render(transfer.getReceiveBufferSize()).as(Integer.class).orElse(profile.receiveBufferSize()),
+            runContext.render(transfer.getBufferSize()).as(Integer.class).orElse(profile.bufferSize()),
+            runContext.render(transfer.getTcpNoDelay()).as(Boolean.class).orElse(profile.tcpNoDelay())
+        );
+
+        positive("options.transfer.sendBufferSize", rendered.sendBufferSize());
+        positive("options.transfer.receiveBufferSize", rendered.receiveBufferSize());
+        positive("options.transfer.bufferSize", rendered.bufferSize());
+
+        return rendered;
+    }
+
+    private static void positive(String name, Integer value) {
+        if (value != null && value <= 0) {
+            throw new IllegalArgumentException("`" + name + "` must be positive, got " + value);
+        }
+    }
+
+    record TransferSettings(Integer sendBufferSize, Integer receiveBufferSize, Integer bufferSize, boolean tcpNoDelay) {
+    }
+
+    /**
+     * Path as seen by a native client: with `rootDir`, VFS resolves paths against the user's home directory,
+     * which is also the working directory of the client after login.
+     */
+    public static String remotePath(RunContext runContext, FtpInterface ftpInterface, String path) throws IllegalVariableEvaluationException {
+        if (!runContext.render(ftpInterface.getRootDir()).as(Boolean.class).orElse(false)) {
+            return path;
+        }
+
+        String relative = StringUtils.stripStart(path, "/");
+        return relative.isEmpty() ? "." : relative;
+    }
+
+    /**
+     * Checksum of a remote file computed by the server, with `HASH` when advertised, otherwise with the older
+     * `XMD5`, `XSHA1`, `XSHA256` and `XSHA512` commands.
+     *
+     * @return the hex-encoded checksum, or null when the server supports none of them for the algorithm
+     */
+    public static String remoteChecksum(FTPClient client, String path, ChecksumService.Algorithm algorithm) throws IOException {
+        String command = switch (algorithm) {
+            case MD5 -> "XMD5";
+            case SHA_1 -> "XSHA1";
+            case SHA_256 -> "XSHA256";
+            case SHA_512 -> "XSHA512";
+            case CRC32C, XXHASH64 -> throw new IllegalArgumentException(
+                "`remoteChecksum` requires MD5, SHA_1, SHA_256 or SHA_512, FTP servers can't compute " + algorithm
+            );
+        };
+
+        int length = ChecksumService.digest(algorithm).getDigestLength() * 2;
+
+        // e.g. "HASH SHA-1;SHA-256*;SHA-512;MD5", the algorithm currently selected being marked with a star
+        String hashAlgorithms = client.hasFeature("HASH") ? client.featureValue("HASH") : null;
+        if (hashAlgorithms != null && Arrays.stream(hashAlgorithms.split(";")).map(name -> StringUtils.removeEnd(name.strip(), "*")).anyMatch(algorithm.jcaName()::equalsIgnoreCase)) {
+            if (FTPReply.isPositiveCompletion(client.sendCommand("OPTS", "HASH " + algorithm.jcaName()))
+                && FTPReply.isPositiveCompletion(client.sendCommand("HASH", path))) {
+                // "213 SHA-256 0-1234 <checksum> <path>"
+                return hexToken(client.getReplyString(), length);
+            }
+        }
+
+        if (FTPReply.isPositiveCompletion(client.sendCommand(command, path))) {
+            return hexToken(client.getReplyString(), length);
+        }
+
+        return null;
+    }
+
+    /**
+     * Checksum of a remote file computed by the server, over a dedicated connection.
+     *
+     * @return the hex-encoded checksum, or null when the server can't compute it or the connection fails, the caller
+     * then computes it locally
+     */
+    public static String remoteChecksum(RunContext runContext, ClientFactory clients, FtpInterface ftpInterface, URI uri, ChecksumService.Algorithm algorithm) throws IllegalVariableEvaluationException {
+        FTPClient client = null;
+        try {
+            client = clients.open();
+            return remoteChecksum(client, remotePath(runContext, ftpInterface, uri.getPath()), algorithm);
+        } catch (IOException e) {
+            runContext.logger().warn("Unable to get the checksum of '{}' from the server, computing it locally: {}", VfsService.uriWithoutAuth(uri), e.getMessage());
+            return null;
+        } finally {
+            if (client != null) {
+                disconnectQuietly(client);
+            }
+        }
+    }
+
+    private static String hexToken(String reply, int length) {
+        return Arrays.stream(reply.strip().split("\\s+"))
+            .filter(token -> token.length() == length && token.chars().allMatch(c -> Character.digit(c, 16) >= 0))
+            .map(String::toLowerCase)
+            .findFirst()
+            .orElse(null);
+    }
+
+    public static void disconnectQuietly(FTPClient client) {
+        if (!client.isConnected()) {
+            return;
+        }
+
+        try {
+            client.logout();
+        } catch (IOException ignored) {
+        } finally {
+            try {
+                client.disconnect();
+            } catch (IOException ignored) {
+            }
+        }
+    }
 }
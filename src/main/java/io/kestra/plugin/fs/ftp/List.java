@@ -9,9 +9,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 
 import java.io.IOException;
 import java.net.Proxy;
+import java.net.URI;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -67,6 +69,20 @@ public class List extends io.kestra.plugin.fs.vfs.List implements FtpInterface {
     @PluginProperty(group = "advanced")
     protected Options options = Options.builder().build();
 
+    @Override
+    protected Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        Output output = FtpService.list(runContext, this, () -> FtpService.client(runContext, this, this), from, regExp, recursive);
+
+        return output != null ? output : super.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
+
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
         return FtpService.fsOptions(runContext, this);
@@ -5,13 +5,16 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.VfsDownloadRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 
 import java.io.IOException;
 import java.net.Proxy;
+import java.net.URI;
 
 @SuperBuilder
 @ToString
@@ -136,6 +139,62 @@ public class Trigger extends io.kestra.plugin.fs.vfs.Trigger implements FtpInter
     @Builder.Default
     protected Options options = Options.builder().build();
 
+    @Schema(
+        title = "Number of files downloaded in parallel",
+        description = "Each file in flight uses its own control connection, taken from a pool of logged-in connections that are reused from one file to the next and checked with `NOOP` before reuse. " +
+            "Default 1, the files are downloaded one at a time through Commons VFS."
+    )
+    @Builder.Default
+    protected Property<Integer> concurrency = Property.ofValue(1);
+
+    @Schema(
+        title = "Tune the number of files downloaded in parallel while they transfer",
+        description = "Starts with 2 files at a time and adds one as long as the aggregate throughput keeps rising, up to `concurrency`. " +
+            "The number is halved when the throughput drops, or when the server refuses a connection or replies `421`, the refused files being retried. " +
+            "The concurrency reached is reported in the `concurrency` and `concurrency.peak` metrics."
+    )
+    @Builder.Default
+    protected Property<Boolean> adaptiveConcurrency = Property.ofValue(false);
+
+    @Override
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        // the pool connections, and the Commons VFS connection used for the listing and checks alongside them
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(1);
+        return rConcurrency > 1 ? rConcurrency + 1 : 1;
+    }
+
+    @Override
+    protected java.util.List<io.kestra.plugin.fs.vfs.Download.Output> download(RunContext runContext, java.util.List<VfsDownloadRequest> requests) throws Exception {
+        int rConcurrency = Math.min(
+            runContext.render(this.concurrency).as(Integer.class).orElse(1),
+            // no more connections than the sessions granted by `maxSessionsPerHost`, less the Commons VFS one
+            requests.isEmpty() ? 1 : requests.getFirst().sessions() - 1
+        );
+        if (rConcurrency <= 1 || requests.size() <= 1) {
+            return super.download(runContext, requests);
+        }
+
+        boolean rAdaptive = runContext.render(this.adaptiveConcurrency).as(Boolean.class).orElse(false);
+
+        try (FtpConnectionPool pool = new FtpConnectionPool(runContext, this, Math.min(rConcurrency, requests.size()), rAdaptive, () -> FtpService.client(runContext, this, this))) {
+            return pool.download(requests);
+        }
+    }
+
+    @Override
+    protected io.kestra.plugin.fs.vfs.List.Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        io.kestra.plugin.fs.vfs.List.Output output = FtpService.list(runContext, this, () -> FtpService.client(runContext, this, this), from, regExp, recursive);
+
+        return output != null ? output : super.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
+
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
         return FtpService.fsOptions(runContext, this);
@@ -0,0 +1,90 @@
+package io.kestra.plugin.fs.ftps;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.ftp.FtpInterface;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.provider.ftps.FtpsDataChannelProtectionLevel;
+import org.apache.commons.vfs2.provider.ftps.FtpsMode;
+
+import java.io.IOException;
+import java.net.Proxy;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Copy an FTPS file or directory",
+    description = "Copies a remote file or directory to another path of the same server; destination directories are created when missing. FTP has no server-side copy, so the content is streamed from the source to the destination without going through internal storage. Defaults: port 990, EXPLICIT mode, PROT P data channel, passive mode on, remote IP verification on, paths relative to user home. `insecureTrustAllCertificates` skips SSL checks for testing."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: fs_ftps_copy
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.fs.ftps.Copy
+                    host: localhost
+                    port: 990
+                    username: foo
+                    password: "{{ secret('FTPS_PASSWORD') }}"
+                    from: "/upload/dir1/file.txt"
+                    to: "/upload/backup/file.txt"
+                """
+        )
+    }
+)
+public class Copy extends io.kestra.plugin.fs.vfs.Copy implements FtpInterface, FtpsInterface {
+    @PluginProperty(group = "connection")
+    protected Property<String> proxyHost;
+    @PluginProperty(group = "connection")
+    protected Property<String> proxyPort;
+    protected Property<Proxy.Type> proxyType;
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> rootDir = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    protected Property<String> port = Property.ofValue("990");
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> passiveMode = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> remoteIpVerification = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Options options = Options.builder().build();
+
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<FtpsMode> mode = Property.ofValue(FtpsMode.EXPLICIT);
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<FtpsDataChannelProtectionLevel> dataChannelProtectionLevel = Property.ofValue(FtpsDataChannelProtectionLevel.P);
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> insecureTrustAllCertificates;
+
+    @Override
+    protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
+        return FtpsService.fsOptions(runContext, this, this);
+    }
+
+    @Override
+    protected String scheme() {
+        return "ftps";
+    }
+}
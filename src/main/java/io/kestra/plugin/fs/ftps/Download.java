@@ -6,6 +6,8 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.fs.ftp.FtpInterface;
+import io.kestra.plugin.fs.ftp.FtpService;
+import io.kestra.plugin.fs.vfs.ChecksumService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -15,6 +17,7 @@ import org.apache.commons.vfs2.provider.ftps.FtpsMode;
 
 import java.io.IOException;
 import java.net.Proxy;
+import java.net.URI;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -77,6 +80,11 @@ public class Download extends io.kestra.plugin.fs.vfs.Download implements FtpInt
     @PluginProperty(group = "advanced")
     protected Property<Boolean> insecureTrustAllCertificates;
 
+    @Override
+    protected String remoteChecksum(RunContext runContext, URI from, ChecksumService.Algorithm algorithm) throws Exception {
+        return FtpService.remoteChecksum(runContext, () -> FtpsService.client(runContext, this, this, this), this, from, algorithm);
+    }
+
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
         return FtpsService.fsOptions(runContext, this, this);
@@ -4,6 +4,8 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.fs.ftp.FtpInterface;
 import io.kestra.plugin.fs.ftp.FtpService;
+import io.kestra.plugin.fs.vfs.AbstractVfsInterface;
+import org.apache.commons.net.ftp.FTPSClient;
 import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.provider.ftps.FtpsDataChannelProtectionLevel;
 import org.apache.commons.vfs2.provider.ftps.FtpsFileSystemConfigBuilder;
@@ -48,4 +50,28 @@ public abstract class FtpsService {
 
         return options;
     }
+
+    /**
+     * A native client, connected and logged in with the same settings as the VFS provider, for the commands VFS doesn't expose.
+     * Its data connections resume the TLS session of the control connection, see {@link SessionReuseFtpsClient}.
+     */
+    public static FTPSClient client(RunContext runContext, AbstractVfsInterface vfsInterface, FtpInterface ftpInterface, FtpsInterface ftpsInterface) throws IOException, IllegalVariableEvaluationException {
+        FtpsMode mode = runContext.render(ftpsInterface.getMode()).as(FtpsMode.class).orElse(FtpsMode.EXPLICIT);
+        FTPSClient client = new SessionReuseFtpsClient(
+            mode == FtpsMode.IMPLICIT,
+            runContext.render(ftpsInterface.getInsecureTrustAllCertificates()).as(Boolean.class).orElse(false)
+        );
+
+        FtpService.connect(runContext, vfsInterface, ftpInterface, client, "990");
+
+        try {
+            client.execPBSZ(0);
+            client.execPROT(runContext.render(ftpsInterface.getDataChannelProtectionLevel()).as(FtpsDataChannelProtectionLevel.class).orElse(FtpsDataChannelProtectionLevel.P).name());
+        } catch (IOException | RuntimeException e) {
+            client.disconnect();
+            throw e;
+        }
+
+        return client;
+    }
 }
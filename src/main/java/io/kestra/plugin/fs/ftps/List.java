@@ -6,15 +6,18 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.fs.ftp.FtpInterface;
+import io.kestra.plugin.fs.ftp.FtpService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 import org.apache.commons.vfs2.provider.ftps.FtpsDataChannelProtectionLevel;
 import org.apache.commons.vfs2.provider.ftps.FtpsMode;
 
 import java.io.IOException;
 import java.net.Proxy;
+import java.net.URI;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -79,6 +82,20 @@ public class List extends io.kestra.plugin.fs.vfs.List implements FtpInterface,
     @PluginProperty(group = "advanced")
     protected Property<Boolean> insecureTrustAllCertificates;
 
+    @Override
+    protected Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        Output output = FtpService.list(runContext, this, () -> FtpsService.client(runContext, this, this, this), from, regExp, recursive);
+
+        return output != null ? output : super.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
+
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
         return FtpsService.fsOptions(runContext, this, this);
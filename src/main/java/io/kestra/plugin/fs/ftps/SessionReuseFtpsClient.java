@@ -0,0 +1,87 @@
+package io.kestra.plugin.fs.ftps;
+
+import org.apache.commons.net.ftp.FTPSClient;
+import org.apache.commons.net.util.TrustManagerUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import java.io.IOException;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+
+/**
+ * FTPS client resuming the TLS session of the control connection on every data connection.
+ * <p>
+ * JSSE looks sessions up by peer host and port, and each data connection has its own port, so commons-net performs
+ * a full handshake per file or listing. Here the data sockets are opened in clear and wrapped in TLS under the host
+ * and port of the control connection, which makes JSSE offer the cached session. Servers requiring session reuse
+ * (e.g. vsftpd's `require_ssl_reuse`) accept these connections, and the others fall back to a full handshake.
+ * <p>
+ * The SSL contexts are shared by all the clients so that control connections to the same server resume each other's
+ * sessions too. Contexts that validate certificates and contexts that don't are kept apart, so that a session
+ * established without validation is never resumed by a client that requires it.
+ */
+final class SessionReuseFtpsClient extends FTPSClient {
+    // same trust manager as the Commons VFS provider, which only checks the validity dates of the server certificate
+    private static final SSLContext VALIDATING = sslContext(new TrustManager[]{TrustManagerUtils.getValidateServerCertificateTrustManager()});
+    private static final SSLContext TRUSTING_ALL = sslContext(new TrustManager[]{TrustManagerUtils.getAcceptAllTrustManager()});
+
+    private final SSLContext sslContext;
+    private boolean protectedData;
+
+    SessionReuseFtpsClient(boolean implicit, boolean trustAllCertificates) {
+        this(implicit, trustAllCertificates ? TRUSTING_ALL : VALIDATING);
+    }
+
+    private SessionReuseFtpsClient(boolean implicit, SSLContext sslContext) {
+        super(implicit, sslContext);
+        this.sslContext = sslContext;
+    }
+
+    private static SSLContext sslContext(TrustManager[] trustManagers) {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, trustManagers, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize the FTPS SSL context", e);
+        }
+    }
+
+    @Override
+    public void execPROT(String prot) throws IOException {
+        super.execPROT(prot);
+
+        // data sockets are opened in clear, and secured by _openDataConnection_ under the control connection address
+        this.protectedData = "P".equals(prot);
+        if (this.protectedData) {
+            this.setSocketFactory(null);
+            this.setServerSocketFactory(null);
+        }
+    }
+
+    @Override
+    protected Socket _openDataConnection_(String command, String arg) throws IOException {
+        Socket socket = super._openDataConnection_(command, arg);
+        if (socket == null || socket instanceof SSLSocket || !this.protectedData || !(_socket_ instanceof SSLSocket control)) {
+            return socket;
+        }
+
+        try {
+            SSLSocket secured = (SSLSocket) this.sslContext.getSocketFactory().createSocket(
+                socket,
+                control.getSession().getPeerHost(),
+                control.getSession().getPeerPort(),
+                true
+            );
+            secured.setUseClientMode(true);
+            secured.startHandshake();
+
+            return secured;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.BufferPool;
 import io.kestra.plugin.fs.vfs.ChecksumService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -14,6 +16,7 @@ import lombok.experimental.SuperBuilder;
 import jakarta.validation.constraints.NotNull;
 
 import java.io.File;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.*;
 import io.kestra.core.models.annotations.PluginProperty;
@@ -99,12 +102,19 @@ public class Download extends AbstractLocalTask implements RunnableTask<Download
 
     @Schema(
         title = "Checksum algorithm to use",
-        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`."
+        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`. `CRC32C` and `XXHASH64` are much faster on large files but only detect accidental corruption."
     )
     @Builder.Default
     @PluginProperty(group = "advanced")
     private Property<ChecksumService.Algorithm> checksumAlgorithm = Property.ofValue(ChecksumService.Algorithm.SHA_256);
 
+    @Schema(
+        title = "Maximum bandwidth in bytes per second",
+        description = "Paces the copy, e.g. to keep a network mount usable by other services. No limit by default."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> maxBandwidth;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
 
@@ -122,7 +132,14 @@ public class Download extends AbstractLocalTask implements RunnableTask<Download
         }
 
         File tempFile = runContext.workingDir().createTempFile(extension).toFile();
-        Files.copy(sourcePath, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Bandwidth bandwidth = Bandwidth.of(runContext.render(this.maxBandwidth).as(Long.class).orElse(null));
+        if (bandwidth.isUnlimited()) {
+            Files.copy(sourcePath, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            try (InputStream in = bandwidth.wrap(Files.newInputStream(sourcePath))) {
+                BufferPool.copy(in, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
 
         boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
         String rChecksumExpected = runContext.render(this.checksumExpected).as(String.class).orElse(null);
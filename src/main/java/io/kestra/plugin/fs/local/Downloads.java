@@ -123,6 +123,13 @@ public class Downloads extends AbstractLocalTask implements RunnableTask<Downloa
     @PluginProperty(group = "processing")
     private Property<Integer> maxFiles = Property.ofValue(25);
 
+    @Schema(
+        title = "Maximum bandwidth in bytes per second",
+        description = "Paces the copy, e.g. to keep a network mount usable by other services. No limit by default."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> maxBandwidth;
+
     static void performAction(
         java.util.List<File> files,
         Action action,
@@ -201,6 +208,7 @@ public class Downloads extends AbstractLocalTask implements RunnableTask<Downloa
                     .id(Download.class.getSimpleName())
                     .type(Download.class.getName())
                     .from(Property.ofValue(fileItem.getLocalPath().toString()))
+                    .maxBandwidth(this.maxBandwidth)
                     .build();
 
                 Download.Output downloadOutput = downloadTask.run(runContext);
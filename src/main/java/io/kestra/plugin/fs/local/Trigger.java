@@ -9,6 +9,7 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.fs.local.models.File;
+import io.kestra.plugin.fs.vfs.Shard;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -19,10 +20,8 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Stream;
 
 import static io.kestra.core.models.triggers.StatefulTriggerService.*;
-import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -125,12 +124,35 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @PluginProperty(group = "execution")
     private Property<Integer> maxFiles = Property.ofValue(25);
 
+    @Schema(
+        title = "Shard of the watched directory handled by this trigger",
+        description = "Splits polling of a large directory across several triggers: each one only considers the paths whose stable hash falls in its `index` out of `count`, and keeps its own state."
+    )
+    @PluginProperty(group = "advanced")
+    private Shard shard;
+
+    private static class PendingFile {
+        private final File file;
+        private final StatefulTriggerService.Entry candidate;
+        private final ChangeType changeType;
+
+        private PendingFile(File file, StatefulTriggerService.Entry candidate, ChangeType changeType) {
+            this.file = file;
+            this.candidate = candidate;
+            this.changeType = changeType;
+        }
+    }
+
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext triggerContext) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
         var logger = runContext.logger();
         var rOn = runContext.render(on).as(On.class).orElse(On.CREATE_OR_UPDATE);
+        var rShard = this.shard != null ? this.shard.render(runContext) : null;
         var rStateKey = runContext.render(stateKey).as(String.class).orElse(StatefulTriggerService.defaultKey(triggerContext.getNamespace(), triggerContext.getFlowId(), id));
+        if (rShard != null) {
+            rStateKey = rShard.stateKey(rStateKey);
+        }
         var rStateTtl = runContext.render(stateTtl).as(Duration.class);
         var rFrom = runContext.render(this.from).as(String.class).orElseThrow();
 
@@ -140,7 +162,8 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .from(Property.ofValue(rFrom))
             .regExp(this.regExp)
             .recursive(this.recursive)
-            .maxFiles(this.maxFiles)
+            // with sharding, truncate only once the files of other shards are discarded, or every shard would see the same first files
+            .maxFiles(rShard != null ? Property.ofValue(Integer.MAX_VALUE) : this.maxFiles)
             .build();
 
         io.kestra.plugin.fs.local.List.Output listOutput = listTask.run(runContext);
@@ -151,46 +174,60 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
 
         Map<String, StatefulTriggerService.Entry> state = readState(runContext, rStateKey, rStateTtl);
 
-        java.util.List<File> actionFiles = new ArrayList<>();
-
-        java.util.List<TriggeredFile> toFire = listOutput.getFiles().stream()
-            .flatMap(throwFunction(fileItem -> {
-                if (fileItem.isDirectory()) {
-                    return Stream.empty();
-                }
+        java.util.List<PendingFile> pendingFiles = new ArrayList<>();
+        for (File fileItem : listOutput.getFiles()) {
+            if (fileItem.isDirectory()) {
+                continue;
+            }
 
-                var uri = Optional.ofNullable(fileItem.getUri().toString()).orElse(fileItem.getLocalPath().toUri().toString());
-                var attrs = Files.readAttributes(fileItem.getLocalPath(), BasicFileAttributes.class);
-                var modifiedAt = attrs.lastModifiedTime().toInstant();
-                var key = Optional.ofNullable(attrs.fileKey()).map(Object::toString).orElseGet(() -> fileItem.getLocalPath().toUri().toString());
-                var version = String.format("%d_%s", modifiedAt.toEpochMilli(), uri);
+            if (rShard != null && !rShard.owns(fileItem.getLocalPath().toString())) {
+                continue;
+            }
 
-                var candidate = StatefulTriggerService.Entry.candidate(key, version, modifiedAt);
+            var uri = Optional.ofNullable(fileItem.getUri().toString()).orElse(fileItem.getLocalPath().toUri().toString());
+            var attrs = Files.readAttributes(fileItem.getLocalPath(), BasicFileAttributes.class);
+            var modifiedAt = attrs.lastModifiedTime().toInstant();
+            var key = Optional.ofNullable(attrs.fileKey()).map(Object::toString).orElseGet(() -> fileItem.getLocalPath().toUri().toString());
+            var version = String.format("%d_%s", modifiedAt.toEpochMilli(), uri);
 
-                var change = computeAndUpdateState(state, candidate, rOn);
+            var candidate = StatefulTriggerService.Entry.candidate(key, version, modifiedAt);
+            var prev = state.get(key);
 
-                if (change.fire()) {
-                    var changeType = change.isNew() ? ChangeType.CREATE : ChangeType.UPDATE;
+            // keep state up to date for non-fired files
+            if (!shouldFire(prev, version, rOn)) {
+                computeAndUpdateState(state, candidate, rOn);
+                continue;
+            }
 
-                    var downloadTask = Download.builder()
-                        .id(Download.class.getSimpleName())
-                        .type(Download.class.getName())
-                        .from(Property.ofValue(fileItem.getLocalPath().toString()))
-                        .build();
-
-                    var downloadOutput = downloadTask.run(runContext);
-                    var downloaded = fileItem.withUri(downloadOutput.getUri());
+            pendingFiles.add(new PendingFile(fileItem, candidate, prev == null ? ChangeType.CREATE : ChangeType.UPDATE));
+        }
 
-                    actionFiles.add(fileItem);
+        // cap before downloading and recording state, so that the files past the cap fire on a later evaluation
+        int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+        java.util.List<PendingFile> limitedPending = pendingFiles;
+        if (pendingFiles.size() > rMaxFiles) {
+            logger.warn("Too many files to process ({}), limiting to {}", pendingFiles.size(), rMaxFiles);
+            limitedPending = pendingFiles.subList(0, rMaxFiles);
+        }
 
-                    return Stream.of(TriggeredFile.builder()
-                        .file(downloaded)
-                        .changeType(changeType)
-                        .build());
-                }
-                return Stream.empty();
-            }))
-            .toList();
+        java.util.List<File> actionFiles = new ArrayList<>();
+        java.util.List<TriggeredFile> toFire = new ArrayList<>();
+        for (PendingFile pending : limitedPending) {
+            var downloadTask = Download.builder()
+                .id(Download.class.getSimpleName())
+                .type(Download.class.getName())
+                .from(Property.ofValue(pending.file.getLocalPath().toString()))
+                .build();
+
+            var downloadOutput = downloadTask.run(runContext);
+
+            computeAndUpdateState(state, pending.candidate, rOn);
+            actionFiles.add(pending.file);
+            toFire.add(TriggeredFile.builder()
+                .file(pending.file.withUri(downloadOutput.getUri()))
+                .changeType(pending.changeType)
+                .build());
+        }
 
         writeState(runContext, rStateKey, state, rStateTtl);
 
@@ -198,25 +235,11 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             return Optional.empty();
         }
 
-        int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-        java.util.List<TriggeredFile> limitedToFire = toFire;
-        java.util.List<File> limitedActionFiles = actionFiles;
-        if (toFire.size() > rMaxFiles) {
-            logger.warn("Too many files to process ({}), limiting to {}", toFire.size(), rMaxFiles);
-            int limit = Math.min(rMaxFiles, toFire.size());
-            limitedToFire = toFire.subList(0, limit);
-            limitedActionFiles = actionFiles.subList(0, Math.min(limit, actionFiles.size()));
-        }
-
-        if (limitedToFire.isEmpty()) {
-            return Optional.empty();
-        }
-
         Downloads.Action selectedAction = this.action != null ?
             runContext.render(this.action).as(Downloads.Action.class).orElse(Downloads.Action.NONE) :
             Downloads.Action.NONE;
 
-        java.util.List<File> filesToProcess = limitedActionFiles.stream()
+        java.util.List<File> filesToProcess = actionFiles.stream()
             .filter(file -> !file.isDirectory())
             .toList();
 
@@ -224,7 +247,7 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             Downloads.performAction(filesToProcess, selectedAction, this.moveDirectory, runContext);
         }
 
-        return Optional.of(TriggerService.generateExecution(this, conditionContext, triggerContext, Output.builder().files(limitedToFire).build()));
+        return Optional.of(TriggerService.generateExecution(this, conditionContext, triggerContext, Output.builder().files(toFire).build()));
     }
 
     public enum ChangeType {
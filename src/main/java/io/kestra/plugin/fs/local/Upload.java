@@ -8,6 +8,8 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.BufferPool;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -88,6 +90,13 @@ public class Upload extends AbstractLocalTask implements RunnableTask<Upload.Out
     @PluginProperty(group = "destination")
     private Property<Boolean> overwrite = Property.ofValue(true);
 
+    @Schema(
+        title = "Maximum bandwidth in bytes per second",
+        description = "Paces the copy, e.g. to keep a network mount usable by other services. No limit by default."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> maxBandwidth;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
 
@@ -122,9 +131,10 @@ public class Upload extends AbstractLocalTask implements RunnableTask<Upload.Out
             ? new CopyOption[] { StandardCopyOption.REPLACE_EXISTING }
             : new CopyOption[] {};
 
-        try (var sourceFile = runContext.storage().getFile(URI.create(renderedFrom))) {
+        Bandwidth bandwidth = Bandwidth.of(runContext.render(this.maxBandwidth).as(Long.class).orElse(null));
+        try (var sourceFile = bandwidth.wrap(runContext.storage().getFile(URI.create(renderedFrom)))) {
             runContext.logger().info("Copying {} to {}", URI.create(renderedFrom), destinationPath);
-            Files.copy(sourceFile, destinationPath, options);
+            BufferPool.copy(sourceFile, destinationPath, options);
         }
 
         return Output.builder()
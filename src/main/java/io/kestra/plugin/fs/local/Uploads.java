@@ -10,6 +10,8 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.BufferPool;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -163,6 +165,13 @@ public class Uploads extends AbstractLocalTask implements RunnableTask<Uploads.O
     @PluginProperty(group = "advanced")
     private Property<Boolean> overwrite = Property.ofValue(true);
 
+    @Schema(
+        title = "Maximum bandwidth in bytes per second",
+        description = "Paces the copy, e.g. to keep a network mount usable by other services. No limit by default."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Long> maxBandwidth;
+
     @Override
     public Output run(RunContext runContext) throws Exception {
         List<Map.Entry<String, String>> fileMappings = parseFromProperty(runContext);
@@ -190,6 +199,7 @@ public class Uploads extends AbstractLocalTask implements RunnableTask<Uploads.O
         CopyOption[] options = rOverwrite
             ? new CopyOption[]{StandardCopyOption.REPLACE_EXISTING}
             : new CopyOption[]{};
+        Bandwidth bandwidth = Bandwidth.of(runContext.render(this.maxBandwidth).as(Long.class).orElse(null));
 
         List<URI> outputs = new ArrayList<>();
         for (Map.Entry<String, String> entry : fileMappings) {
@@ -208,9 +218,9 @@ public class Uploads extends AbstractLocalTask implements RunnableTask<Uploads.O
                 ));
             }
 
-            try (InputStream in = runContext.storage().getFile(URI.create(fromURI))) {
+            try (InputStream in = bandwidth.wrap(runContext.storage().getFile(URI.create(fromURI)))) {
                 runContext.logger().debug("Copying {} to {}", fromURI, target);
-                Files.copy(in, target, options);
+                BufferPool.copy(in, target, options);
             }
 
             outputs.add(target.toUri());
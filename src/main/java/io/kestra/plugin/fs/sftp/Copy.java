@@ -0,0 +1,141 @@
+package io.kestra.plugin.fs.sftp;
+
+import com.jcraft.jsch.JSchException;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileSystemOptions;
+
+import java.io.IOException;
+import java.net.URI;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Copy an SFTP file or directory",
+    description = "Copies a remote file or directory to another path of the same server; destination directories are created when missing. The copy runs `cp` on the server over SSH when `serverSideCopy` is enabled and the account allows it, otherwise the content is streamed from the source to the destination without going through internal storage. Defaults: port 22, user home as root, password auth unless a PEM key is provided, host key checking disabled by default."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            code = """
+                id: fs_sftp_copy
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.fs.sftp.Copy
+                    host: localhost
+                    port: "22"
+                    username: foo
+                    password: "{{ secret('SFTP_PASSWORD') }}"
+                    from: "/upload/dir1/file.txt"
+                    to: "/upload/backup/file.txt"
+                """
+        )
+    }
+)
+public class Copy extends io.kestra.plugin.fs.vfs.Copy implements SftpInterface {
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    protected Property<String> keyfile;
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "advanced")
+    protected Property<String> passphrase;
+    @Deprecated
+    @PluginProperty(group = "deprecated")
+    protected Property<String> proxyHost;
+    @PluginProperty(group = "advanced")
+    protected Property<String> proxyAddress;
+    @PluginProperty(group = "connection")
+    protected Property<String> proxyPort;
+    @Deprecated
+    @PluginProperty(group = "deprecated")
+    protected Property<String> proxyUser;
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    protected Property<String> proxyUsername;
+    @ToString.Exclude
+    @PluginProperty(secret = true, group = "connection")
+    protected Property<String> proxyPassword;
+    @PluginProperty(group = "advanced")
+    protected Property<String> proxyType;
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> rootDir = Property.ofValue(true);
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    protected Property<String> port = Property.ofValue("22");
+    @PluginProperty(group = "connection")
+    protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
+
+    @Schema(
+        title = "Copy on the server with an SSH `cp` command",
+        description = "Avoids transferring the content through the worker. Falls back to streaming when the command can't be run, e.g. SFTP-only accounts or servers without a shell."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> serverSideCopy = Property.ofValue(true);
+
+    @Override
+    protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
+        return SftpService.fsOptions(runContext, this);
+    }
+
+    @Override
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        // the exec session of the server-side copy is opened alongside the Commons VFS one
+        return runContext.render(this.serverSideCopy).as(Boolean.class).orElse(true) ? 2 : 1;
+    }
+
+    @Override
+    protected boolean copyOnServer(RunContext runContext, URI from, URI to, int sessions) throws Exception {
+        if (!runContext.render(this.serverSideCopy).as(Boolean.class).orElse(true)) {
+            return false;
+        }
+
+        if (sessions < 2) {
+            runContext.logger().debug("`maxSessionsPerHost` leaves no session for a server-side copy, copying through the worker instead");
+            return false;
+        }
+
+        try (SftpConnection connection = SftpConnection.open(
+            runContext,
+            this,
+            this,
+            runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false)
+        )) {
+            var result = connection.exec(
+                "cp -R -- " + SftpConnection.shellQuote(connection.remotePath(from.getPath())) + " " + SftpConnection.shellQuote(connection.remotePath(to.getPath()))
+            );
+
+            if (result.exitCode() != 0) {
+                runContext.logger().warn("Server-side copy failed with exit code {}, copying through the worker instead: {}", result.exitCode(), result.stderr().strip());
+                return false;
+            }
+
+            return true;
+        } catch (JSchException | IOException | IllegalArgumentException e) {
+            // e.g. no exec channel, an exec failing midway, or a proxy type that only Commons VFS supports
+            runContext.logger().warn("Unable to run a server-side copy, copying through the worker instead: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    protected String scheme() {
+        return "sftp";
+    }
+}
@@ -75,6 +75,8 @@ public class Delete extends io.kestra.plugin.fs.vfs.Delete implements SftpInterf
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
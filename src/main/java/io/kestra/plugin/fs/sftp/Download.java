@@ -5,12 +5,19 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.FileUtils;
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.VfsDownloadRequest;
+import io.kestra.plugin.fs.vfs.VfsService;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
 
+import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -39,6 +46,46 @@ import io.kestra.core.models.annotations.PluginProperty;
                     password: "{{ secret('SFTP_PASSWORD') }}"
                     from: "/in/file.txt"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Download a large file over 8 concurrent SSH sessions.",
+            code = """
+                id: fs_sftp_download_segmented
+                namespace: company.team
+
+                tasks:
+                  - id: download
+                    type: io.kestra.plugin.fs.sftp.Download
+                    host: sftp.example.com
+                    username: foo
+                    password: "{{ secret('SFTP_PASSWORD') }}"
+                    from: "/backups/dump.tar"
+                    segments: 8
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Download a file only when it changed since the last execution, comparing checksums computed by the server.",
+            code = """
+                id: fs_sftp_download_if_changed
+                namespace: company.team
+
+                tasks:
+                  - id: download
+                    type: io.kestra.plugin.fs.sftp.Download
+                    host: sftp.example.com
+                    username: foo
+                    password: "{{ secret('SFTP_PASSWORD') }}"
+                    from: "/exports/daily.parquet"
+                    remoteChecksum: true
+                    previousChecksum: "{{ kv('daily_parquet_checksum', errorOnMissing=false) }}"
+
+                  - id: remember
+                    type: io.kestra.plugin.core.kv.Set
+                    key: daily_parquet_checksum
+                    value: "{{ outputs.download.checksum }}"
+                """
         )
     }
 )
@@ -75,6 +122,88 @@ public class Download extends io.kestra.plugin.fs.vfs.Download implements SftpIn
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
+
+    @Schema(
+        title = "Number of byte ranges downloaded concurrently",
+        description = "When greater than 1 and the file is at least `segmentThreshold` bytes, the file is split in as many ranges, each fetched over its own SSH session and written at its position in the local file. " +
+            "Each range is retried up to 3 times from the last received byte. The ranges share the `maxBandwidth` and `maxBandwidthPerHost` limits. Default 1, the file is downloaded over a single channel."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> segments = Property.ofValue(1);
+
+    @Schema(
+        title = "Minimum size in bytes of a file downloaded in segments",
+        description = "Smaller files are downloaded over a single channel. Default 128 MiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Long> segmentThreshold = Property.ofValue(SftpSegments.DEFAULT_THRESHOLD);
+
+    @Override
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        return runContext.render(this.segments).as(Integer.class).orElse(1);
+    }
+
+    @Override
+    protected Output download(RunContext runContext, VfsDownloadRequest request) throws Exception {
+        // no more segments than the sessions granted by `maxSessionsPerHost`
+        int rSegments = Math.min(runContext.render(this.segments).as(Integer.class).orElse(1), request.sessions());
+        if (rSegments <= 1) {
+            return super.download(runContext, request);
+        }
+
+        URI from = request.from();
+        boolean rEnableSshRsa1 = runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false);
+
+        // the session of the stat is reused by the first segment, so that the task holds at most one session per segment
+        AtomicReference<SftpConnection> statConnection = new AtomicReference<>(SftpConnection.open(runContext, this, this, rEnableSshRsa1));
+        try {
+            long size;
+            var channel = statConnection.get().openSftpChannel();
+            try {
+                size = channel.stat(statConnection.get().remotePath(from.getPath())).getSize();
+            } finally {
+                channel.disconnect();
+            }
+
+            long rSegmentThreshold = runContext.render(this.segmentThreshold).as(Long.class).orElse(SftpSegments.DEFAULT_THRESHOLD);
+            if (size < rSegmentThreshold) {
+                statConnection.getAndSet(null).close();
+                return super.download(runContext, request);
+            }
+
+            File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(from)).toFile();
+            SftpSegments.download(
+                runContext,
+                () -> {
+                    SftpConnection connection = statConnection.getAndSet(null);
+                    return connection != null ? connection : SftpConnection.open(runContext, this, this, rEnableSshRsa1);
+                },
+                from.getPath(),
+                size,
+                rSegments,
+                tempFile.toPath(),
+                request.bandwidth()
+            );
+
+            runContext.logger().debug("File '{}' downloaded in {} segments ({} bytes)", VfsService.uriWithoutAuth(from), rSegments, size);
+
+            return VfsService.store(request, tempFile);
+        } finally {
+            SftpConnection unused = statConnection.getAndSet(null);
+            if (unused != null) {
+                unused.close();
+            }
+        }
+    }
+
+    @Override
+    protected String remoteChecksum(RunContext runContext, URI from, ChecksumService.Algorithm algorithm) throws Exception {
+        return SftpService.remoteChecksum(runContext, this, this, runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false), from, algorithm);
+    }
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
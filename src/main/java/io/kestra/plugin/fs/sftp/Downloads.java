@@ -79,6 +79,8 @@ public class Downloads extends io.kestra.plugin.fs.vfs.Downloads implements Sftp
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
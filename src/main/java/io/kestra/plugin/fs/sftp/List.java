@@ -5,12 +5,16 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
+import io.kestra.plugin.fs.vfs.VfsService;
+import io.kestra.plugin.fs.vfs.models.File;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
 
 import java.io.IOException;
+import java.net.URI;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -41,6 +45,25 @@ import io.kestra.core.models.annotations.PluginProperty;
                     regExp: '.*/dir1/.*\\.(yaml|yml)'
                     sort: NAME_ASC
                 """
+        ),
+        @Example(
+            full = true,
+            title = "List the first 100 CSV files of a directory holding millions of entries.",
+            code = """
+                id: fs_sftp_list_streaming
+                namespace: company.team
+
+                tasks:
+                  - id: list
+                    type: io.kestra.plugin.fs.sftp.List
+                    host: sftp.example.com
+                    username: foo
+                    password: "{{ secret('SFTP_PASSWORD') }}"
+                    from: "/archive/"
+                    regExp: '.*\\.csv$'
+                    maxFiles: 100
+                    listingStrategy: STREAMING
+                """
         )
     }
 )
@@ -77,6 +100,67 @@ public class List extends io.kestra.plugin.fs.vfs.List implements SftpInterface
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
+
+    @Schema(
+        title = "How the files are listed",
+        description = "`VFS` (default) lists through Commons VFS, which loads each directory entirely. " +
+            "`STREAMING` filters the entries as the server sends them and builds the files from the attributes of the listing, without one object per entry. " +
+            "When `sort` is `NONE`, the listing stops as soon as more than `maxFiles` files are found. " +
+            "`EXEC_FIND` runs a single GNU `find` over an SSH exec channel, which avoids one round trip per directory on deep recursive listings; it requires shell access and falls back to `STREAMING` when the command can't be run. " +
+            "Files listed with `find` follow symbolic links and have no `flags`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<ListingStrategy> listingStrategy = Property.ofValue(ListingStrategy.VFS);
+
+    @Schema(
+        title = "Number of SFTP channels listing directories concurrently",
+        description = "With the `STREAMING` strategy and `recursive`, directories are queued and listed by this many channels of the SSH session, each taking the next directory once done. " +
+            "The files are then returned in no particular order unless `sort` is set. OpenSSH allows 10 channels per session by default (`MaxSessions`). Default 1."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> listingConcurrency = Property.ofValue(1);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        ListingStrategy rListingStrategy = runContext.render(this.listingStrategy).as(ListingStrategy.class).orElse(ListingStrategy.VFS);
+        if (rListingStrategy == ListingStrategy.VFS) {
+            return super.run(runContext);
+        }
+
+        URI rFrom = this.uri(runContext, runContext.render(this.from).as(String.class).orElseThrow());
+        String rRegExp = runContext.render(this.getRegExp()).as(String.class).orElse(null);
+        boolean rRecursive = runContext.render(this.getRecursive()).as(Boolean.class).orElse(false);
+        Sort rSort = runContext.render(this.getSort()).as(Sort.class).orElse(Sort.NONE);
+        int rMaxFiles = runContext.render(this.getMaxFiles()).as(Integer.class).orElse(25);
+
+        // unsorted files past maxFiles are dropped anyway, one more is enough to report the truncation
+        int limit = rSort == Sort.NONE ? rMaxFiles + 1 : Integer.MAX_VALUE;
+
+        java.util.List<File> files;
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            SftpConnection connection = SftpConnection.open(runContext, this, this, runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false))
+        ) {
+            files = SftpListing.list(
+                runContext,
+                connection,
+                rListingStrategy,
+                runContext.render(this.listingConcurrency).as(Integer.class).orElse(1),
+                rFrom,
+                rRegExp,
+                rRecursive,
+                limit
+            );
+        }
+
+        runContext.logger().debug("Found '{}' files from '{}'", files.size(), VfsService.uriWithoutAuth(rFrom));
+
+        return this.sortAndLimit(runContext, files);
+    }
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
@@ -0,0 +1,7 @@
+package io.kestra.plugin.fs.sftp;
+
+public enum ListingStrategy {
+    VFS,
+    STREAMING,
+    EXEC_FIND
+}
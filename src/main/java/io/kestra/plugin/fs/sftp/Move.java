@@ -76,6 +76,8 @@ public class Move extends io.kestra.plugin.fs.vfs.Move implements SftpInterface
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
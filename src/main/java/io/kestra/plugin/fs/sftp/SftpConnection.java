@@ -0,0 +1,216 @@
+package io.kestra.plugin.fs.sftp;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.ProxyHTTP;
+import com.jcraft.jsch.ProxySOCKS5;
+import com.jcraft.jsch.Session;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.AbstractVfsInterface;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * A JSch session opened with the same settings as the VFS SFTP provider, for the operations VFS doesn't expose:
+ * SSH exec commands and direct use of SFTP channels.
+ */
+public class SftpConnection implements AutoCloseable {
+    private static final Duration SESSION_TIMEOUT = Duration.ofSeconds(10);
+    private static final long EXIT_STATUS_POLL_MS = 10;
+
+    private final Session session;
+    private final boolean rootDir;
+    private final SftpService.PerformanceSettings performance;
+
+    private SftpConnection(Session session, boolean rootDir, SftpService.PerformanceSettings performance) {
+        this.session = session;
+        this.rootDir = rootDir;
+        this.performance = performance;
+    }
+
+    public static SftpConnection open(
+        RunContext runContext,
+        AbstractVfsInterface vfsInterface,
+        SftpInterface sftpInterface,
+        boolean enableSshRsa1
+    ) throws IllegalVariableEvaluationException, JSchException {
+        var rHost = runContext.render(vfsInterface.getHost()).as(String.class).orElseThrow();
+        var rPort = runContext.render(vfsInterface.getPort()).as(String.class).orElse("22");
+        var rUsername = runContext.render(vfsInterface.getUsername()).as(String.class).orElse(null);
+
+        var jsch = new JSch();
+        var rKeyfile = runContext.render(sftpInterface.getKeyfile()).as(String.class);
+        if (rKeyfile.isPresent()) {
+            var rPassphrase = runContext.render(sftpInterface.getPassphrase()).as(String.class);
+            jsch.addIdentity(
+                "kestra",
+                rKeyfile.get().getBytes(StandardCharsets.UTF_8),
+                null,
+                rPassphrase.map(passphrase -> passphrase.getBytes(StandardCharsets.UTF_8)).orElse(null)
+            );
+        }
+
+        var session = jsch.getSession(rUsername, rHost, Integer.parseInt(rPort));
+        session.setConfig("StrictHostKeyChecking", "no");
+
+        if (rKeyfile.isPresent()) {
+            session.setConfig("PreferredAuthentications", "publickey");
+        } else {
+            session.setConfig("PreferredAuthentications", "password");
+            runContext.render(vfsInterface.getPassword()).as(String.class).ifPresent(session::setPassword);
+        }
+
+        var rKeyExchangeAlgorithm = runContext.render(sftpInterface.getKeyExchangeAlgorithm()).as(String.class);
+        if (rKeyExchangeAlgorithm.isPresent()) {
+            session.setConfig("kex", rKeyExchangeAlgorithm.get());
+        }
+
+        // enable disabled by default weak RSA/SHA1 algorithm
+        if (enableSshRsa1) {
+            session.setConfig("server_host_key", session.getConfig("server_host_key") + ",ssh-rsa");
+            session.setConfig("PubkeyAcceptedAlgorithms", session.getConfig("PubkeyAcceptedAlgorithms") + ",ssh-rsa");
+        }
+
+        var performance = SftpService.performance(runContext, sftpInterface);
+        if (performance.ciphers() != null) {
+            session.setConfig("cipher.c2s", performance.ciphers());
+            session.setConfig("cipher.s2c", performance.ciphers());
+        }
+        if (performance.compression()) {
+            session.setConfig("compression.c2s", SftpService.COMPRESSION);
+            session.setConfig("compression.s2c", SftpService.COMPRESSION);
+        }
+
+        configureProxy(runContext, sftpInterface, session);
+
+        session.setTimeout((int) SESSION_TIMEOUT.toMillis());
+        session.connect((int) SESSION_TIMEOUT.toMillis());
+
+        return new SftpConnection(session, runContext.render(sftpInterface.getRootDir()).as(Boolean.class).orElse(false), performance);
+    }
+
+    @SuppressWarnings("deprecation") // Required for backward compatibility with deprecated proxy properties
+    private static void configureProxy(RunContext runContext, SftpInterface sftpInterface, Session session) throws IllegalVariableEvaluationException {
+        if (sftpInterface.getProxyType() == null || (sftpInterface.getProxyAddress() == null && sftpInterface.getProxyHost() == null)) {
+            return;
+        }
+
+        var rProxyHost = sftpInterface.getProxyAddress() != null
+            ? runContext.render(sftpInterface.getProxyAddress()).as(String.class).orElseThrow()
+            : runContext.render(sftpInterface.getProxyHost()).as(String.class).orElseThrow();
+        var rProxyPort = runContext.render(sftpInterface.getProxyPort()).as(String.class).map(Integer::parseInt);
+        var rProxyUsername = sftpInterface.getProxyUsername() != null
+            ? runContext.render(sftpInterface.getProxyUsername()).as(String.class).orElse(null)
+            : runContext.render(sftpInterface.getProxyUser()).as(String.class).orElse(null);
+        var rProxyPassword = runContext.render(sftpInterface.getProxyPassword()).as(String.class).orElse(null);
+
+        switch (runContext.render(sftpInterface.getProxyType()).as(String.class).orElseThrow()) {
+            case "SOCKS5" -> {
+                var proxy = rProxyPort.map(port -> new ProxySOCKS5(rProxyHost, port)).orElseGet(() -> new ProxySOCKS5(rProxyHost));
+                proxy.setUserPasswd(rProxyUsername, rProxyPassword);
+                session.setProxy(proxy);
+            }
+            case "HTTP" -> {
+                var proxy = rProxyPort.map(port -> new ProxyHTTP(rProxyHost, port)).orElseGet(() -> new ProxyHTTP(rProxyHost));
+                proxy.setUserPasswd(rProxyUsername, rProxyPassword);
+                session.setProxy(proxy);
+            }
+            default -> throw new IllegalArgumentException(
+                "Proxy type '" + sftpInterface.getProxyType() + "' is not supported for this operation, use SOCKS5 or HTTP."
+            );
+        }
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    public ChannelSftp openSftpChannel() throws JSchException {
+        var channel = (ChannelSftp) session.openChannel("sftp");
+        if (performance.bulkRequests() != null) {
+            channel.setBulkRequests(performance.bulkRequests());
+        }
+        channel.connect((int) SESSION_TIMEOUT.toMillis());
+        return channel;
+    }
+
+    /**
+     * Size in bytes of each read or write of segmented transfers.
+     */
+    public int getBlockSize() {
+        return performance.blockSize();
+    }
+
+    /**
+     * Path as seen by channels of this session. With `rootDir`, VFS resolves paths against the user's home directory,
+     * which is also the starting directory of SFTP and exec channels, so the path is made relative to it.
+     */
+    public String remotePath(String path) {
+        if (!rootDir) {
+            return path;
+        }
+
+        var relative = StringUtils.stripStart(path, "/");
+        return relative.isEmpty() ? "." : relative;
+    }
+
+    /**
+     * Runs a command over an SSH exec channel, streaming its standard output.
+     *
+     * @return the command exit status
+     */
+    public int exec(String command, OutputStream stdout, OutputStream stderr) throws JSchException, IOException, InterruptedException {
+        var channel = (ChannelExec) session.openChannel("exec");
+        try {
+            channel.setCommand(command);
+            // an empty stdin sends EOF right away, so that commands waiting for input (e.g. a forced `internal-sftp`) end
+            channel.setInputStream(new ByteArrayInputStream(new byte[0]));
+            channel.setErrStream(stderr, true);
+
+            try (InputStream in = channel.getInputStream()) {
+                channel.connect((int) SESSION_TIMEOUT.toMillis());
+                in.transferTo(stdout);
+            }
+
+            // the exit status is only known once the channel is closed, shortly after the end of the output
+            while (!channel.isClosed()) {
+                Thread.sleep(EXIT_STATUS_POLL_MS);
+            }
+
+            return channel.getExitStatus();
+        } finally {
+            channel.disconnect();
+        }
+    }
+
+    public ExecResult exec(String command) throws JSchException, IOException, InterruptedException {
+        var stdout = new ByteArrayOutputStream();
+        var stderr = new ByteArrayOutputStream();
+
+        int exitCode = exec(command, stdout, stderr);
+
+        return new ExecResult(exitCode, stdout.toString(StandardCharsets.UTF_8), stderr.toString(StandardCharsets.UTF_8));
+    }
+
+    public static String shellQuote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
+    @Override
+    public void close() {
+        session.disconnect();
+    }
+
+    public record ExecResult(int exitCode, String stdout, String stderr) {
+    }
+}
@@ -2,6 +2,9 @@ package io.kestra.plugin.fs.sftp;
 
 import io.kestra.core.models.property.Property;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import io.kestra.core.models.annotations.PluginProperty;
 
 public interface SftpInterface {
@@ -78,4 +81,54 @@ public interface SftpInterface {
     )
     @PluginProperty(group = "advanced")
     Property<String> getKeyExchangeAlgorithm();
+
+    @Schema(
+        title = "SSH throughput settings",
+        description = "Unset by default, JSch defaults are used."
+    )
+    @PluginProperty(group = "advanced")
+    Performance getPerformance();
+
+    @Getter
+    @Builder(toBuilder = true)
+    @Jacksonized
+    class Performance {
+        @Schema(
+            title = "Preset of the settings below",
+            description = "`DEFAULT` keeps JSch defaults. `HIGH_LATENCY` prefers AES-GCM ciphers, which are hardware-accelerated on most CPUs, and keeps 64 requests of 1 MiB in flight per channel to fill long fat pipes. " +
+                "`LOW_BANDWIDTH` enables compression. Settings set explicitly take precedence over the preset."
+        )
+        @Builder.Default
+        Property<Profile> profile = Property.ofValue(Profile.DEFAULT);
+
+        @Schema(
+            title = "Outstanding requests per channel",
+            description = "Number of read or write requests sent before waiting for the first reply. Applies to segmented transfers and server-side copies, Commons VFS channels keep the JSch default of 16."
+        )
+        Property<Integer> bulkRequests;
+
+        @Schema(
+            title = "Size in bytes of each read or write",
+            description = "Applies to segmented transfers. Default 256 KiB."
+        )
+        Property<Integer> blockSize;
+
+        @Schema(
+            title = "Preferred ciphers",
+            description = "Comma-separated list in order of preference, e.g. `aes128-gcm@openssh.com,aes256-gcm@openssh.com,aes128-ctr`. The first one also supported by the server is used."
+        )
+        Property<String> ciphers;
+
+        @Schema(
+            title = "Compress the SSH stream",
+            description = "Negotiates `zlib@openssh.com` compression, only worth it on slow links with compressible content."
+        )
+        Property<Boolean> compression;
+
+        public enum Profile {
+            DEFAULT,
+            HIGH_LATENCY,
+            LOW_BANDWIDTH
+        }
+    }
 }
@@ -0,0 +1,377 @@
+package io.kestra.plugin.fs.sftp;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.VfsService;
+import io.kestra.plugin.fs.vfs.models.File;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.vfs2.FileType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Lists files with JSch directly: entries are filtered as the server sends them and turned into {@link File}s from
+ * the attributes returned by the listing, so neither the whole directory nor per-file VFS objects are kept in memory.
+ */
+final class SftpListing {
+    // size, modification and access times, owner, group, permissions, path relative to the listed directory
+    static final String FIND_FORMAT = "%s %T@ %A@ %U %G %m %P\\0";
+    private static final String END_MARKER = "kestra-find-exit";
+    private static final int REGULAR_FILE = 0100000;
+
+    private SftpListing() {
+    }
+
+    /**
+     * Lists with the given strategy, except {@link ListingStrategy#VFS} which is handled by Commons VFS.
+     *
+     * @param limit number of files after which the listing stops
+     */
+    static List<File> list(
+        RunContext runContext,
+        SftpConnection connection,
+        ListingStrategy strategy,
+        int concurrency,
+        URI from,
+        String regExp,
+        boolean recursive,
+        int limit
+    ) throws Exception {
+        if (strategy == ListingStrategy.EXEC_FIND) {
+            List<File> files = null;
+            try {
+                files = find(connection, from, regExp, recursive, limit);
+            } catch (JSchException e) {
+                runContext.logger().debug("Unable to open an exec channel: {}", e.getMessage());
+            }
+
+            if (files != null) {
+                return files;
+            }
+
+            runContext.logger().warn("The server doesn't run `find` over SSH, listing '{}' through SFTP instead", VfsService.uriWithoutAuth(from));
+        }
+
+        return stream(connection, from, regExp, recursive, limit, concurrency);
+    }
+
+    /**
+     * Lists with `READDIR`, the directories of a recursive listing being drained by `concurrency` channels of the session.
+     *
+     * @param limit number of files after which the listing stops
+     */
+    static List<File> stream(SftpConnection connection, URI from, String regExp, boolean recursive, int limit, int concurrency) throws Exception {
+        String root = root(from);
+
+        String realRoot;
+        ChannelSftp channel = connection.openSftpChannel();
+        try {
+            SftpATTRS rootAttrs = channel.stat(remotePath(connection, root));
+            if (!rootAttrs.isDir()) {
+                return matches(root, regExp) ? List.of(File.of(serverPath(from, root), rootAttrs, false)) : List.of();
+            }
+
+            realRoot = recursive ? channel.realpath(remotePath(connection, root)) : root;
+        } finally {
+            channel.disconnect();
+        }
+
+        Walk walk = new Walk(connection, from, regExp, recursive, limit);
+        walk.add(new Directory(root, realRoot));
+
+        int workers = recursive ? Math.max(1, concurrency) : 1;
+        VfsService.forEachConcurrently(IntStream.range(0, workers).boxed().toList(), workers, worker -> walk.drain());
+
+        return new ArrayList<>(walk.files);
+    }
+
+    /**
+     * A directory to list, with its path on the server once symbolic links are resolved.
+     */
+    private record Directory(String path, String realPath) {
+        Directory child(String name) {
+            return new Directory(path + "/" + name, realPath + "/" + name);
+        }
+    }
+
+    /**
+     * Directories left to list, shared by the channels of a listing: each one takes the next directory once done with
+     * its previous one, so that a deep subtree never waits on a single channel.
+     */
+    private static class Walk {
+        private static final long POLL_MS = 10;
+
+        private final SftpConnection connection;
+        private final URI from;
+        private final String regExp;
+        private final boolean recursive;
+        private final int limit;
+        private final BlockingDeque<Directory> directories = new LinkedBlockingDeque<>();
+        // resolved paths of the directories already queued, so that a symbolic link to a parent can't loop forever
+        private final Set<String> visited = ConcurrentHashMap.newKeySet();
+        // directories queued or being listed, the walk is over once it reaches 0
+        private final AtomicInteger pending = new AtomicInteger();
+        private final List<File> files = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean stopped;
+
+        Walk(SftpConnection connection, URI from, String regExp, boolean recursive, int limit) {
+            this.connection = connection;
+            this.from = from;
+            this.regExp = regExp;
+            this.recursive = recursive;
+            this.limit = limit;
+        }
+
+        void add(Directory directory) {
+            if (!visited.add(directory.realPath())) {
+                return;
+            }
+
+            pending.incrementAndGet();
+            directories.add(directory);
+        }
+
+        private boolean done() {
+            return stopped || files.size() >= limit;
+        }
+
+        void drain() throws Exception {
+            ChannelSftp channel = connection.openSftpChannel();
+            try {
+                while (!done()) {
+                    Directory directory = directories.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                    if (directory == null) {
+                        if (pending.get() == 0) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    try {
+                        list(channel, directory);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                }
+            } catch (Exception e) {
+                stopped = true;
+                throw e;
+            } finally {
+                channel.disconnect();
+            }
+        }
+
+        private void list(ChannelSftp channel, Directory directory) throws SftpException, URISyntaxException {
+            List<String> links = new ArrayList<>();
+            List<URISyntaxException> failures = new ArrayList<>();
+
+            channel.ls(remotePath(connection, directory.path()), entry -> {
+                String name = entry.getFilename();
+                if (".".equals(name) || "..".equals(name)) {
+                    return ChannelSftp.LsEntrySelector.CONTINUE;
+                }
+
+                String path = directory.path() + "/" + name;
+                SftpATTRS attrs = entry.getAttrs();
+                if (attrs.isDir()) {
+                    if (recursive) {
+                        add(directory.child(name));
+                    }
+                } else if (attrs.isLink()) {
+                    // the target type needs a stat, which can't be sent while the channel is reading the listing
+                    links.add(path);
+                } else if (attrs.isReg() && matches(path, regExp)) {
+                    try {
+                        files.add(File.of(serverPath(from, path), attrs, false));
+                    } catch (URISyntaxException e) {
+                        failures.add(e);
+                        return ChannelSftp.LsEntrySelector.BREAK;
+                    }
+                }
+
+                return done() ? ChannelSftp.LsEntrySelector.BREAK : ChannelSftp.LsEntrySelector.CONTINUE;
+            });
+
+            if (!failures.isEmpty()) {
+                throw failures.getFirst();
+            }
+
+            for (String link : links) {
+                if (done()) {
+                    break;
+                }
+
+                SftpATTRS target;
+                try {
+                    target = channel.stat(remotePath(connection, link));
+                } catch (SftpException e) {
+                    if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                        // a broken link, skipped like `find -L` does
+                        continue;
+                    }
+                    throw e;
+                }
+
+                if (target.isDir()) {
+                    if (recursive) {
+                        add(new Directory(link, channel.realpath(remotePath(connection, link))));
+                    }
+                } else if (matches(link, regExp)) {
+                    files.add(File.of(serverPath(from, link), target, true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists files with a single `find` run over an SSH exec channel instead of one `READDIR` sequence per directory.
+     *
+     * @return null when the server doesn't run the command, e.g. without shell access or without GNU find
+     */
+    static List<File> find(SftpConnection connection, URI from, String regExp, boolean recursive, int limit) throws JSchException, IOException, InterruptedException {
+        String root = root(from);
+        String command = "find -L " + SftpConnection.shellQuote(remotePath(connection, root)) +
+            (recursive ? "" : " -maxdepth 1") +
+            " -type f -printf " + SftpConnection.shellQuote(FIND_FORMAT) +
+            "; printf " + SftpConnection.shellQuote(END_MARKER + " %d\\000") + " $?";
+
+        FindOutput output = new FindOutput(from, root, regExp, limit);
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        connection.exec(command, output, stderr);
+
+        // a forced internal-sftp command exits without output, so the end marker is required too
+        if (output.exitCode == null || output.exitCode != 0 || output.failure != null) {
+            return null;
+        }
+
+        return output.files;
+    }
+
+    /**
+     * Parses one record of {@link #FIND_FORMAT}.
+     */
+    static File parseFindRecord(URI from, String root, String record) throws URISyntaxException {
+        String[] fields = record.split(" ", 7);
+        if (fields.length != 7) {
+            throw new IllegalArgumentException("Unexpected find output '" + record + "'");
+        }
+
+        String path = fields[6].isEmpty() ? root : root + "/" + fields[6];
+
+        return File.builder()
+            .path(new URI(null, path, null))
+            .serverPath(serverPath(from, path))
+            .name(FilenameUtils.getName(path))
+            .fileType(FileType.FILE)
+            .symbolicLink(false)
+            .size(Long.parseLong(fields[0]))
+            .updatedDate(epoch(fields[1]))
+            .accessDate(epoch(fields[2]))
+            .userId(Integer.parseInt(fields[3]))
+            .groupId(Integer.parseInt(fields[4]))
+            // same permissions as SFTP attributes, which include the file type bits
+            .permissions(REGULAR_FILE | Integer.parseInt(fields[5], 8))
+            .build();
+    }
+
+    private static Instant epoch(String seconds) {
+        BigDecimal value = new BigDecimal(seconds);
+        return Instant.ofEpochSecond(value.longValue(), value.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+    }
+
+    private static String root(URI from) {
+        // same path as VFS, which collapses duplicated separators
+        String normalized = FilenameUtils.normalizeNoEndSeparator(from.getPath(), true);
+        return StringUtils.removeEnd(normalized != null ? normalized : from.getPath(), "/");
+    }
+
+    /**
+     * Splits the output of find on NUL bytes as it arrives, keeping only the files to return.
+     */
+    private static class FindOutput extends OutputStream {
+        private final URI from;
+        private final String root;
+        private final String regExp;
+        private final int limit;
+        private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+        private final List<File> files = new ArrayList<>();
+        private Integer exitCode;
+        private Exception failure;
+
+        FindOutput(URI from, String root, String regExp, int limit) {
+            this.from = from;
+            this.root = root;
+            this.regExp = regExp;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) {
+            if (b != 0) {
+                record.write(b);
+                return;
+            }
+
+            String value = record.toString(StandardCharsets.UTF_8);
+            record.reset();
+
+            if (value.startsWith(END_MARKER + " ")) {
+                exitCode = Integer.valueOf(value.substring(END_MARKER.length() + 1).strip());
+                return;
+            }
+
+            if (failure != null || files.size() >= limit) {
+                return;
+            }
+
+            try {
+                File file = parseFindRecord(from, root, value);
+                if (matches(file.getPath().getPath(), regExp)) {
+                    files.add(file);
+                }
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+
+    private static String remotePath(SftpConnection connection, String path) {
+        return connection.remotePath(path.isEmpty() ? "/" : path);
+    }
+
+    private static boolean matches(String path, String regExp) {
+        return regExp == null || path.matches(regExp);
+    }
+
+    private static URI serverPath(URI from, String path) throws URISyntaxException {
+        return new URI(from.getScheme(), from.getUserInfo(), from.getHost(), from.getPort(), path, null, null);
+    }
+}
@@ -0,0 +1,152 @@
+package io.kestra.plugin.fs.sftp;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.SftpException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.VfsService;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transfers a single large file as byte ranges moved concurrently, each over its own SSH session, so that the
+ * throughput isn't bounded by the window of a single channel on high-latency links. All the segments draw on the same
+ * bandwidth limits.
+ */
+final class SftpSegments {
+    static final long DEFAULT_THRESHOLD = 128L * 1024 * 1024;
+    static final int SEGMENT_ATTEMPTS = 3;
+
+    private SftpSegments() {
+    }
+
+    @FunctionalInterface
+    interface ConnectionFactory {
+        SftpConnection open() throws Exception;
+    }
+
+    record Segment(int index, long start, long end) {
+    }
+
+    static List<Segment> split(long size, int count) {
+        long segmentSize = Math.max(1, (size + count - 1) / count);
+
+        List<Segment> segments = new ArrayList<>();
+        for (long start = 0; start < size; start += segmentSize) {
+            segments.add(new Segment(segments.size(), start, Math.min(size, start + segmentSize)));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Downloads `path` into `target` with positional writes, each segment retried from the last byte it wrote.
+     */
+    static void download(RunContext runContext, ConnectionFactory connections, String path, long size, int count, Path target, Bandwidth bandwidth) throws Exception {
+        List<Segment> segments = split(size, count);
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            VfsService.forEachConcurrently(segments, segments.size(), segment -> downloadSegment(runContext, connections, path, segment, channel, bandwidth));
+
+            if (channel.size() != size) {
+                throw new IOException("Downloaded " + channel.size() + " bytes of '" + path + "' but the remote file has " + size + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Uploads `source` to `path`, each segment written at its offset through its own session. Opening a remote file for
+     * writing truncates it, so all the segments are opened before any byte is written and a failed segment restarts the
+     * whole file.
+     */
+    static void upload(RunContext runContext, ConnectionFactory connections, Path source, String path, long size, int count, Bandwidth bandwidth) throws Exception {
+        List<Segment> segments = split(size, count);
+
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            for (int attempt = 1; ; attempt++) {
+                List<SftpConnection> opened = new ArrayList<>();
+                try {
+                    List<OutputStream> streams = new ArrayList<>();
+                    for (Segment segment : segments) {
+                        SftpConnection connection = connections.open();
+                        opened.add(connection);
+                        streams.add(bandwidth.wrap(connection.openSftpChannel().put(connection.remotePath(path), null, ChannelSftp.OVERWRITE, segment.start())));
+                    }
+
+                    int blockSize = opened.getFirst().getBlockSize();
+                    VfsService.forEachConcurrently(segments, segments.size(), segment -> uploadSegment(channel, segment, streams.get(segment.index()), blockSize));
+                    return;
+                } catch (IOException | SftpException | JSchException e) {
+                    if (attempt >= SEGMENT_ATTEMPTS) {
+                        throw new IOException("Segmented upload of '" + path + "' failed after " + attempt + " attempts", e);
+                    }
+
+                    runContext.logger().warn("Segmented upload of '{}' interrupted, restarting: {}", path, e.getMessage());
+                } finally {
+                    opened.forEach(SftpConnection::close);
+                }
+            }
+        }
+    }
+
+    private static void uploadSegment(FileChannel channel, Segment segment, OutputStream stream, int blockSize) throws IOException {
+        // closing waits for the server to acknowledge every write of the segment
+        try (OutputStream out = stream) {
+            ByteBuffer buffer = ByteBuffer.allocate(blockSize);
+            long position = segment.start();
+            while (position < segment.end()) {
+                buffer.clear().limit((int) Math.min(blockSize, segment.end() - position));
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of the local file at byte " + position);
+                }
+
+                out.write(buffer.array(), 0, read);
+                position += read;
+            }
+        }
+    }
+
+    private static void downloadSegment(RunContext runContext, ConnectionFactory connections, String path, Segment segment, FileChannel channel, Bandwidth bandwidth) throws Exception {
+        long position = segment.start();
+        int failures = 0;
+
+        while (position < segment.end()) {
+            try (SftpConnection connection = connections.open()) {
+                ChannelSftp sftp = connection.openSftpChannel();
+                try (InputStream in = bandwidth.wrap(sftp.get(connection.remotePath(path), null, position))) {
+                    byte[] buffer = new byte[connection.getBlockSize()];
+                    while (position < segment.end()) {
+                        int read = in.read(buffer, 0, (int) Math.min(buffer.length, segment.end() - position));
+                        if (read < 0) {
+                            throw new EOFException("Unexpected end of '" + path + "' at byte " + position);
+                        }
+
+                        ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                        while (bytes.hasRemaining()) {
+                            position += channel.write(bytes, position);
+                        }
+                    }
+                } finally {
+                    sftp.disconnect();
+                }
+            } catch (IOException | SftpException | JSchException e) {
+                if (++failures >= SEGMENT_ATTEMPTS) {
+                    throw new IOException("Segment " + segment.index() + " of '" + path + "' failed at byte " + position + " after " + failures + " attempts", e);
+                }
+
+                runContext.logger().warn("Segment {} of '{}' interrupted at byte {}, retrying: {}", segment.index(), path, position, e.getMessage());
+            }
+        }
+    }
+}
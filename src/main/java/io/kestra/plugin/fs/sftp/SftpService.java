@@ -1,17 +1,28 @@
 package io.kestra.plugin.fs.sftp;
 
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.OpenSSHConfig;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.AbstractVfsInterface;
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.VfsService;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.provider.sftp.IdentityInfo;
 import org.apache.commons.vfs2.provider.sftp.SftpFileSystemConfigBuilder;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 public abstract class SftpService {
+    static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+    static final String COMPRESSION = "zlib@openssh.com,zlib,none";
+    private static final String GCM_CIPHERS = "aes128-gcm@openssh.com,aes256-gcm@openssh.com,aes128-ctr,aes192-ctr,aes256-ctr";
+
     @SuppressWarnings("deprecation") // Required for backward compatibility with deprecated proxy properties
     public static FileSystemOptions fsOptions(RunContext runContext, SftpInterface sftpInterface) throws IOException, IllegalVariableEvaluationException {
         SftpFileSystemConfigBuilder instance = SftpFileSystemConfigBuilder.getInstance();
@@ -88,6 +99,102 @@ public abstract class SftpService {
             instance.setKeyExchangeAlgorithm(options, runContext.render(sftpInterface.getKeyExchangeAlgorithm()).as(String.class).orElseThrow());
         }
 
+        PerformanceSettings performance = performance(runContext, sftpInterface);
+        if (performance.compression()) {
+            instance.setCompression(options, COMPRESSION);
+        }
+
+        if (performance.ciphers() != null) {
+            // Commons VFS has no cipher setting, JSch reads it from the ssh_config repository instead
+            instance.setConfigRepository(options, OpenSSHConfig.parse("Host *\n  Ciphers " + performance.ciphers()));
+        }
+
         return options;
     }
+
+    /**
+     * Hashes a file on the server over a dedicated session.
+     *
+     * @return the hex-encoded checksum, or null when the server can't compute it, e.g. SFTP-only servers refusing exec
+     * channels, the caller then computes it locally
+     */
+    public static String remoteChecksum(
+        RunContext runContext,
+        AbstractVfsInterface vfsInterface,
+        SftpInterface sftpInterface,
+        boolean enableSshRsa1,
+        URI uri,
+        ChecksumService.Algorithm algorithm
+    ) throws Exception {
+        try (SftpConnection connection = SftpConnection.open(runContext, vfsInterface, sftpInterface, enableSshRsa1)) {
+            return remoteChecksum(connection, uri.getPath(), algorithm);
+        } catch (JSchException | IOException e) {
+            runContext.logger().warn("Unable to get the checksum of '{}' from the server, computing it locally: {}", VfsService.uriWithoutAuth(uri), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hashes a file on the server with the coreutils command of the algorithm, over an SSH exec channel.
+     *
+     * @return the hex-encoded checksum, or null when the server can't compute it, e.g. without shell access
+     */
+    public static String remoteChecksum(SftpConnection connection, String path, ChecksumService.Algorithm algorithm) throws Exception {
+        String command = switch (algorithm) {
+            case MD5 -> "md5sum";
+            case SHA_1 -> "sha1sum";
+            case SHA_256 -> "sha256sum";
+            case SHA_512 -> "sha512sum";
+            case CRC32C, XXHASH64 -> throw new IllegalArgumentException(
+                "`remoteChecksum` requires MD5, SHA_1, SHA_256 or SHA_512, coreutils has no command for " + algorithm
+            );
+        };
+
+        SftpConnection.ExecResult result = connection.exec(command + " -- " + SftpConnection.shellQuote(connection.remotePath(path)));
+        if (result.exitCode() != 0) {
+            return null;
+        }
+
+        // "<checksum>  <path>"
+        String checksum = StringUtils.substringBefore(result.stdout().strip(), " ").toLowerCase();
+        int expectedLength = ChecksumService.digest(algorithm).getDigestLength() * 2;
+
+        return checksum.length() == expectedLength && checksum.chars().allMatch(c -> Character.digit(c, 16) >= 0) ? checksum : null;
+    }
+
+    /**
+     * The `performance` settings of the task, with the values of its profile for the unset ones.
+     */
+    static PerformanceSettings performance(RunContext runContext, SftpInterface sftpInterface) throws IllegalVariableEvaluationException {
+        SftpInterface.Performance performance = sftpInterface.getPerformance();
+        if (performance == null) {
+            return new PerformanceSettings(null, DEFAULT_BLOCK_SIZE, null, false);
+        }
+
+        PerformanceSettings profile = switch (runContext.render(performance.getProfile()).as(SftpInterface.Performance.Profile.class).orElse(SftpInterface.Performance.Profile.DEFAULT)) {
+            case DEFAULT -> new PerformanceSettings(null, DEFAULT_BLOCK_SIZE, null, false);
+            case HIGH_LATENCY -> new PerformanceSettings(64, 1024 * 1024, GCM_CIPHERS, false);
+            case LOW_BANDWIDTH -> new PerformanceSettings(null, DEFAULT_BLOCK_SIZE, null, true);
+        };
+
+        PerformanceSettings rendered = new PerformanceSettings(
+            runContext.render(performance.getBulkRequests()).as(Integer.class).orElse(profile.bulkRequests()),
+            runContext.render(performance.getBlockSize()).as(Integer.class).orElse(profile.blockSize()),
+            runContext.render(performance.getCiphers()).as(String.class).orElse(profile.ciphers()),
+            runContext.render(performance.getCompression()).as(Boolean.class).orElse(profile.compression())
+        );
+
+        if (rendered.bulkRequests() != null && rendered.bulkRequests() <= 0) {
+            throw new IllegalArgumentException("`performance.bulkRequests` must be positive, got " + rendered.bulkRequests());
+        }
+
+        if (rendered.blockSize() <= 0) {
+            throw new IllegalArgumentException("`performance.blockSize` must be positive, got " + rendered.blockSize());
+        }
+
+        return rendered;
+    }
+
+    record PerformanceSettings(Integer bulkRequests, int blockSize, String ciphers, boolean compression) {
+    }
 }
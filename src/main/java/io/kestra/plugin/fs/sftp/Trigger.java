@@ -1,5 +1,7 @@
 package io.kestra.plugin.fs.sftp;
 
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.SftpException;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
@@ -9,9 +11,12 @@ import io.kestra.core.runners.RunContext;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileNotFolderException;
 import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 
 import java.io.IOException;
+import java.net.URI;
 
 @SuperBuilder
 @ToString
@@ -154,6 +159,61 @@ public class Trigger extends io.kestra.plugin.fs.vfs.Trigger implements SftpInte
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
+
+    @Schema(
+        title = "How the files are listed",
+        description = "See the `listingStrategy` of the SFTP `List` task. Default `VFS`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<ListingStrategy> listingStrategy = Property.ofValue(ListingStrategy.VFS);
+
+    @Schema(
+        title = "Number of SFTP channels listing directories concurrently",
+        description = "See the `listingConcurrency` of the SFTP `List` task. Default 1."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> listingConcurrency = Property.ofValue(1);
+
+    @Override
+    protected io.kestra.plugin.fs.vfs.List.Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        ListingStrategy rListingStrategy = runContext.render(this.listingStrategy).as(ListingStrategy.class).orElse(ListingStrategy.VFS);
+        if (rListingStrategy == ListingStrategy.VFS) {
+            return super.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+        }
+
+        try (SftpConnection connection = SftpConnection.open(runContext, this, this, runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false))) {
+            return io.kestra.plugin.fs.vfs.List.Output.builder()
+                .files(SftpListing.list(
+                    runContext,
+                    connection,
+                    rListingStrategy,
+                    runContext.render(this.listingConcurrency).as(Integer.class).orElse(1),
+                    from,
+                    regExp,
+                    recursive,
+                    Integer.MAX_VALUE
+                ))
+                .build();
+        } catch (SftpException e) {
+            if (e.id != ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                throw e;
+            }
+
+            // same as Commons VFS, a missing directory means nothing to trigger on
+            throw new FileNotFolderException(from.getPath());
+        }
+    }
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
@@ -5,12 +5,16 @@ import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.VfsUploadRequest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.vfs2.FileSystemOptions;
 
 import java.io.IOException;
+import java.net.URI;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -44,6 +48,29 @@ import io.kestra.core.models.annotations.PluginProperty;
                     from: "{{ inputs.file }}"
                     to: "/upload/dir2/file.txt"
                 """
+        ),
+        @Example(
+            full = true,
+            title = "Upload a large file over 8 concurrent SSH sessions, renamed once complete.",
+            code = """
+                id: fs_sftp_upload_segmented
+                namespace: company.team
+
+                inputs:
+                  - id: file
+                    type: FILE
+
+                tasks:
+                  - id: upload
+                    type: io.kestra.plugin.fs.sftp.Upload
+                    host: backup.example.com
+                    username: foo
+                    password: "{{ secret('SFTP_PASSWORD') }}"
+                    from: "{{ inputs.file }}"
+                    to: "/backups/dump.tar"
+                    segments: 8
+                    atomicRename: true
+                """
         )
     }
 )
@@ -80,6 +107,69 @@ public class Upload extends io.kestra.plugin.fs.vfs.Upload implements SftpInterf
     protected Property<String> port = Property.ofValue("22");
     @PluginProperty(group = "connection")
     protected Property<String> keyExchangeAlgorithm;
+    @PluginProperty(group = "advanced")
+    protected Performance performance;
+
+    @Schema(
+        title = "Number of byte ranges uploaded concurrently",
+        description = "When greater than 1 and the file is at least `segmentThreshold` bytes, the file is split in as many ranges, each written at its offset over its own SSH session. " +
+            "The remote size is verified once all ranges are written; if a range fails, the whole file is uploaded again, up to 3 times. The ranges share the `maxBandwidth` and `maxBandwidthPerHost` limits. Default 1, the file is uploaded over a single channel."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Integer> segments = Property.ofValue(1);
+
+    @Schema(
+        title = "Minimum size in bytes of a file uploaded in segments",
+        description = "Smaller files are uploaded over a single channel. Default 128 MiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Long> segmentThreshold = Property.ofValue(SftpSegments.DEFAULT_THRESHOLD);
+
+    @Override
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        // the Commons VFS session stays open while the segments are written
+        int rSegments = runContext.render(this.segments).as(Integer.class).orElse(1);
+        return rSegments > 1 ? rSegments + 1 : 1;
+    }
+
+    @Override
+    protected VfsUploadRequest.Writer writer(RunContext runContext, int sessions) throws Exception {
+        // no more segments than the sessions granted by `maxSessionsPerHost`, less the Commons VFS one
+        int rSegments = Math.min(runContext.render(this.segments).as(Integer.class).orElse(1), sessions - 1);
+        if (rSegments <= 1) {
+            return null;
+        }
+
+        long rSegmentThreshold = runContext.render(this.segmentThreshold).as(Long.class).orElse(SftpSegments.DEFAULT_THRESHOLD);
+        boolean rEnableSshRsa1 = runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false);
+        Bandwidth bandwidth = this.bandwidth(runContext);
+
+        return (local, remotePath, size) -> {
+            if (size == 0 || size < rSegmentThreshold) {
+                return false;
+            }
+
+            SftpSegments.upload(
+                runContext,
+                () -> SftpConnection.open(runContext, this, this, rEnableSshRsa1),
+                local.toPath(),
+                remotePath,
+                size,
+                rSegments,
+                bandwidth
+            );
+
+            runContext.logger().debug("File uploaded to '{}' in {} segments ({} bytes)", remotePath, rSegments, size);
+            return true;
+        };
+    }
+
+    @Override
+    protected String remoteChecksum(RunContext runContext, URI to, ChecksumService.Algorithm algorithm) throws Exception {
+        return SftpService.remoteChecksum(runContext, this, this, runContext.render(this.getEnableSshRsa1()).as(Boolean.class).orElse(false), to, algorithm);
+    }
 
     @Override
     protected FileSystemOptions fsOptions(RunContext runContext) throws IllegalVariableEvaluationException, IOException {
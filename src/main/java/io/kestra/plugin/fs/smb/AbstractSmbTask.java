@@ -1,9 +1,12 @@
 package io.kestra.plugin.fs.smb;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -26,10 +29,32 @@ public abstract class AbstractSmbTask extends Task implements SmbInterface {
     @PluginProperty(secret = true, group = "connection")
     protected Property<String> password;
 
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Integer> maxSessionsPerHost;
+
+    @Schema(
+        title = "Maximum bandwidth of the task in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidth;
+
+    @Schema(
+        title = "Maximum bandwidth to the server from this worker in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidthPerHost;
+
     @Builder.Default
     protected Property<String> port = Property.ofValue("445");
 
     protected CIFSContext createContext(RunContext runContext) throws Exception {
         return SmbService.createContext(runContext, this);
     }
+
+    protected Bandwidth bandwidth(RunContext runContext) throws IllegalVariableEvaluationException {
+        return Bandwidth.of(runContext, this);
+    }
 }
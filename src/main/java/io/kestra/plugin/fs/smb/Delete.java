@@ -5,6 +5,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -94,19 +95,21 @@ public class Delete extends AbstractSmbTask implements RunnableTask<io.kestra.pl
     private Property<Boolean> recursive = Property.ofValue(false);
 
     public io.kestra.plugin.fs.vfs.Delete.Output run(RunContext runContext) throws Exception {
-        var cifsContext = createContext(runContext);
-        try {
-            return SmbService.delete(
-                runContext,
-                cifsContext,
-                this,
-                runContext.render(this.uri).as(String.class).orElseThrow(),
-                runContext.render(this.errorOnMissing).as(Boolean.class).orElse(false),
-                runContext.render(this.regExp).as(String.class).orElse(null),
-                runContext.render(this.recursive).as(Boolean.class).orElse(false)
-            );
-        } finally {
-            cifsContext.close();
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var cifsContext = createContext(runContext);
+            try {
+                return SmbService.delete(
+                    runContext,
+                    cifsContext,
+                    this,
+                    runContext.render(this.uri).as(String.class).orElseThrow(),
+                    runContext.render(this.errorOnMissing).as(Boolean.class).orElse(false),
+                    runContext.render(this.regExp).as(String.class).orElse(null),
+                    runContext.render(this.recursive).as(Boolean.class).orElse(false)
+                );
+            } finally {
+                cifsContext.close();
+            }
         }
     }
 }
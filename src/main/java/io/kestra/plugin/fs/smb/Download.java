@@ -6,6 +6,7 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -85,30 +86,33 @@ public class Download extends AbstractSmbTask implements RunnableTask<io.kestra.
 
     @Schema(
         title = "Checksum algorithm to use",
-        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`."
+        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`. `CRC32C` and `XXHASH64` are much faster on large files but only detect accidental corruption."
     )
     @Builder.Default
     @PluginProperty(group = "advanced")
     protected Property<ChecksumService.Algorithm> checksumAlgorithm = Property.ofValue(ChecksumService.Algorithm.SHA_256);
 
     public io.kestra.plugin.fs.vfs.Download.Output run(RunContext runContext) throws Exception {
-        var ctx = createContext(runContext);
-        try {
-            boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
-            String rChecksumExpected = runContext.render(this.checksumExpected).as(String.class).orElse(null);
-            ChecksumService.Algorithm rChecksumAlgorithm = runContext.render(this.checksumAlgorithm).as(ChecksumService.Algorithm.class).orElse(ChecksumService.Algorithm.SHA_256);
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = createContext(runContext);
+            try {
+                boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
+                String rChecksumExpected = runContext.render(this.checksumExpected).as(String.class).orElse(null);
+                ChecksumService.Algorithm rChecksumAlgorithm = runContext.render(this.checksumAlgorithm).as(ChecksumService.Algorithm.class).orElse(ChecksumService.Algorithm.SHA_256);
 
-            return SmbService.download(new SmbDownloadRequest(
-                runContext,
-                ctx,
-                this,
-                runContext.render(this.from).as(String.class).orElseThrow(),
-                rValidateChecksum,
-                rChecksumExpected,
-                rChecksumAlgorithm
-            ));
-        } finally {
-            ctx.close();
+                return SmbService.download(new SmbDownloadRequest(
+                    runContext,
+                    ctx,
+                    this,
+                    runContext.render(this.from).as(String.class).orElseThrow(),
+                    rValidateChecksum,
+                    rChecksumExpected,
+                    rChecksumAlgorithm,
+                    this.bandwidth(runContext)
+                ));
+            } finally {
+                ctx.close();
+            }
         }
     }
 }
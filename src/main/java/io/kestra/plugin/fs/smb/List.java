@@ -5,6 +5,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.kestra.plugin.fs.vfs.models.File;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -83,36 +84,38 @@ public class List extends AbstractSmbTask implements RunnableTask<io.kestra.plug
     private Property<io.kestra.plugin.fs.vfs.List.Sort> sort = Property.ofValue(io.kestra.plugin.fs.vfs.List.Sort.NONE);
 
     public io.kestra.plugin.fs.vfs.List.Output run(RunContext runContext) throws Exception {
-        var ctx = createContext(runContext);
-        try {
-            var output = SmbService.list(
-                runContext,
-                ctx,
-                this,
-                runContext.render(this.from).as(String.class).orElseThrow(),
-                runContext.render(this.regExp).as(String.class).orElse(null),
-                runContext.render(this.recursive).as(Boolean.class).orElse(false)
-            );
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = createContext(runContext);
+            try {
+                var output = SmbService.list(
+                    runContext,
+                    ctx,
+                    this,
+                    runContext.render(this.from).as(String.class).orElseThrow(),
+                    runContext.render(this.regExp).as(String.class).orElse(null),
+                    runContext.render(this.recursive).as(Boolean.class).orElse(false)
+                );
 
-            var files = output.getFiles();
+                var files = output.getFiles();
 
-            var rSort = runContext.render(this.sort).as(io.kestra.plugin.fs.vfs.List.Sort.class).orElse(io.kestra.plugin.fs.vfs.List.Sort.NONE);
-            var comparator = io.kestra.plugin.fs.vfs.List.comparator(rSort, File::getUpdatedDate, File::getName);
-            if (comparator != null) {
-                files = files.stream().sorted(comparator).toList();
-            }
+                var rSort = runContext.render(this.sort).as(io.kestra.plugin.fs.vfs.List.Sort.class).orElse(io.kestra.plugin.fs.vfs.List.Sort.NONE);
+                var comparator = io.kestra.plugin.fs.vfs.List.comparator(rSort, File::getUpdatedDate, File::getName);
+                if (comparator != null) {
+                    files = files.stream().sorted(comparator).toList();
+                }
 
-            int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-            if (files.size() > rMaxFiles) {
-                runContext.logger().warn("Too many files to process ({}), limiting to {}", files.size(), rMaxFiles);
-                files = files.subList(0, rMaxFiles);
-            }
+                int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+                if (files.size() > rMaxFiles) {
+                    runContext.logger().warn("Too many files to process ({}), limiting to {}", files.size(), rMaxFiles);
+                    files = files.subList(0, rMaxFiles);
+                }
 
-            return io.kestra.plugin.fs.vfs.List.Output.builder()
-                .files(files)
-                .build();
-        } finally {
-            ctx.close();
+                return io.kestra.plugin.fs.vfs.List.Output.builder()
+                    .files(files)
+                    .build();
+            } finally {
+                ctx.close();
+            }
         }
     }
 }
@@ -5,6 +5,7 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -66,18 +67,20 @@ public class Move extends AbstractSmbTask implements RunnableTask<io.kestra.plug
     protected Property<Boolean> overwrite = Property.ofValue(false);
 
     public io.kestra.plugin.fs.vfs.Move.Output run(RunContext runContext) throws Exception {
-        var ctx = createContext(runContext);
-        try {
-            return SmbService.move(
-                runContext,
-                ctx,
-                this,
-                runContext.render(this.from).as(String.class).orElseThrow(),
-                runContext.render(this.to).as(String.class).orElseThrow(),
-                runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-            );
-        } finally {
-            ctx.close();
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = createContext(runContext);
+            try {
+                return SmbService.move(
+                    runContext,
+                    ctx,
+                    this,
+                    runContext.render(this.from).as(String.class).orElseThrow(),
+                    runContext.render(this.to).as(String.class).orElseThrow(),
+                    runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
+                );
+            } finally {
+                ctx.close();
+            }
         }
     }
 }
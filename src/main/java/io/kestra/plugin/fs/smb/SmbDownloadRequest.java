@@ -1,6 +1,7 @@
 package io.kestra.plugin.fs.smb;
 
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.Bandwidth;
 import io.kestra.plugin.fs.vfs.ChecksumService;
 import org.codelibs.jcifs.smb.CIFSContext;
 
@@ -11,12 +12,17 @@ public record SmbDownloadRequest(
     String filepath,
     boolean validateChecksum,
     String checksumExpected,
-    ChecksumService.Algorithm checksumAlgorithm
+    ChecksumService.Algorithm checksumAlgorithm,
+    Bandwidth bandwidth
 ) {
     public SmbDownloadRequest {
         if (checksumAlgorithm == null) {
             checksumAlgorithm = ChecksumService.Algorithm.SHA_256;
         }
+
+        if (bandwidth == null) {
+            bandwidth = Bandwidth.UNLIMITED;
+        }
     }
 
     public static SmbDownloadRequest of(
@@ -32,7 +38,21 @@ public record SmbDownloadRequest(
             filepath,
             false,
             null,
-            ChecksumService.Algorithm.SHA_256
+            ChecksumService.Algorithm.SHA_256,
+            Bandwidth.UNLIMITED
+        );
+    }
+
+    public SmbDownloadRequest withBandwidth(Bandwidth bandwidth) {
+        return new SmbDownloadRequest(
+            runContext,
+            cifsContext,
+            smbInterface,
+            filepath,
+            validateChecksum,
+            checksumExpected,
+            checksumAlgorithm,
+            bandwidth
         );
     }
 }
@@ -4,6 +4,9 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.KestraRuntimeException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
+import io.kestra.plugin.fs.vfs.Bandwidth;
+import io.kestra.plugin.fs.vfs.BufferPool;
+import io.kestra.plugin.fs.vfs.MetadataCache;
 import io.kestra.plugin.fs.vfs.models.File;
 import org.codelibs.jcifs.smb.CIFSContext;
 import org.codelibs.jcifs.smb.context.BaseContext;
@@ -13,7 +16,6 @@ import org.codelibs.jcifs.smb.impl.NtlmPasswordAuthenticator;
 import org.codelibs.jcifs.smb.impl.SmbException;
 import org.codelibs.jcifs.smb.impl.SmbFile;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.vfs2.FileType;
 
@@ -161,9 +163,9 @@ public abstract class SmbService {
         var tempFile = runContext.workingDir().createTempFile(ext).toFile();
 
         try (var remote = new SmbFile(url, request.cifsContext());
-             var in = remote.getInputStream();
+             var in = request.bandwidth().wrap(remote.getInputStream());
              var out = new FileOutputStream(tempFile)) {
-            IOUtils.copy(in, out);
+            BufferPool.copy(in, out);
         }
 
         io.kestra.plugin.fs.vfs.ChecksumService.warnIfWeak(runContext.logger(), request.checksumAlgorithm());
@@ -203,16 +205,37 @@ public abstract class SmbService {
         URI from,
         String toPath,
         boolean overwrite
+    ) throws Exception {
+        return upload(runContext, cifsContext, smbInterface, from, toPath, overwrite, null);
+    }
+
+    public static io.kestra.plugin.fs.vfs.Upload.Output upload(
+        RunContext runContext,
+        CIFSContext cifsContext,
+        SmbInterface smbInterface,
+        URI from,
+        String toPath,
+        boolean overwrite,
+        MetadataCache cache
+    ) throws Exception {
+        return upload(runContext, cifsContext, smbInterface, from, toPath, overwrite, cache, Bandwidth.UNLIMITED);
+    }
+
+    public static io.kestra.plugin.fs.vfs.Upload.Output upload(
+        RunContext runContext,
+        CIFSContext cifsContext,
+        SmbInterface smbInterface,
+        URI from,
+        String toPath,
+        boolean overwrite,
+        MetadataCache cache,
+        Bandwidth bandwidth
     ) throws Exception {
         var url = smbUrl(runContext, smbInterface, toPath);
 
-        // Ensure parent directories exist
+        // Ensure parent directories exist, only once per directory when batching
         var parentUrl = url.substring(0, url.lastIndexOf('/') + 1);
-        try (var parentDir = new SmbFile(parentUrl, cifsContext)) {
-            if (!parentDir.exists()) {
-                parentDir.mkdirs();
-            }
-        }
+        ensureDirectory(cifsContext, parentUrl, cache);
 
         try (var remote = new SmbFile(url, cifsContext)) {
             // Check if destination is a folder that would be overwritten
@@ -236,8 +259,8 @@ public abstract class SmbService {
             }
 
             try (var in = runContext.storage().getFile(from);
-                 var out = remote.getOutputStream()) {
-                IOUtils.copy(in, out);
+                 var out = bandwidth.wrap(remote.getOutputStream())) {
+                BufferPool.copy(in, out);
             } catch (SmbException e) {
                 throw toActionableException(e, toPath);
             }
@@ -341,6 +364,18 @@ public abstract class SmbService {
         String fromPath,
         String toPath,
         boolean overwrite
+    ) throws Exception {
+        return move(runContext, cifsContext, smbInterface, fromPath, toPath, overwrite, null);
+    }
+
+    public static io.kestra.plugin.fs.vfs.Move.Output move(
+        RunContext runContext,
+        CIFSContext cifsContext,
+        SmbInterface smbInterface,
+        String fromPath,
+        String toPath,
+        boolean overwrite,
+        MetadataCache cache
     ) throws Exception {
         // If source is a file and destination looks like a directory, append the filename
         var fromIsDir = fromPath.endsWith("/");
@@ -392,11 +427,8 @@ public abstract class SmbService {
                     // Create parent directories (strip trailing slash to get actual parent)
                     var trimmedUrl = toUrl.endsWith("/") ? toUrl.substring(0, toUrl.length() - 1) : toUrl;
                     var parentUrl = trimmedUrl.substring(0, trimmedUrl.lastIndexOf('/') + 1);
-                    try (var parentDir = new SmbFile(parentUrl, cifsContext)) {
-                        if (!parentDir.exists()) {
-                            parentDir.mkdirs();
-                            runContext.logger().debug("Create directory '{}'", parentUrl);
-                        }
+                    if (ensureDirectory(cifsContext, parentUrl, cache)) {
+                        runContext.logger().debug("Create directory '{}'", parentUrl);
                     }
                 }
 
@@ -439,12 +471,14 @@ public abstract class SmbService {
                 delete(runContext, cifsContext, smbInterface, file.getServerPath().getPath(), false);
             }
         } else if (action == io.kestra.plugin.fs.vfs.Downloads.Action.MOVE) {
+            // the archive directory is created once, not checked again for every moved file
+            var cache = new MetadataCache();
             for (File file : blobList) {
                 var moveTo = moveDirectory;
                 if (!moveTo.endsWith("/")) {
                     moveTo += "/";
                 }
-                move(runContext, cifsContext, smbInterface, file.getServerPath().getPath(), moveTo, true);
+                move(runContext, cifsContext, smbInterface, file.getServerPath().getPath(), moveTo, true, cache);
             }
         }
     }
@@ -474,6 +508,31 @@ public abstract class SmbService {
         return slashIdx < 0 ? stripped : stripped.substring(0, slashIdx);
     }
 
+    /**
+     * Create a directory (and its parents) if it doesn't exist, skipping the check for directories already known to the cache.
+     * Returns true if the directory was created.
+     */
+    public static boolean ensureDirectory(CIFSContext cifsContext, String directoryUrl, MetadataCache cache) throws Exception {
+        var directoryPath = pathFromSmbUrl(directoryUrl);
+        if (cache != null && cache.isKnownFolder(directoryPath)) {
+            return false;
+        }
+
+        var created = false;
+        try (var directory = new SmbFile(directoryUrl, cifsContext)) {
+            if (!directory.exists()) {
+                directory.mkdirs();
+                created = true;
+            }
+        }
+
+        if (cache != null) {
+            cache.addFolder(directoryPath);
+        }
+
+        return created;
+    }
+
     /**
      * Recursively delete an SmbFile (file or directory).
      */
@@ -519,7 +578,7 @@ public abstract class SmbService {
             }
             try (var in = source.getInputStream();
                  var out = dest.getOutputStream()) {
-                IOUtils.copy(in, out);
+                BufferPool.copy(in, out);
             }
         }
     }
@@ -6,7 +6,9 @@ import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.Bandwidth;
 import io.kestra.plugin.fs.vfs.Downloads;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.kestra.plugin.fs.vfs.models.File;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -155,6 +157,24 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
     @PluginProperty(secret = true, group = "connection")
     protected Property<String> password;
 
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Integer> maxSessionsPerHost;
+
+    @Schema(
+        title = "Maximum bandwidth of the task in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidth;
+
+    @Schema(
+        title = "Maximum bandwidth to the server from this worker in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidthPerHost;
+
     @Builder.Default
     protected Property<String> port = Property.ofValue("445");
 
@@ -231,136 +251,139 @@ public class Trigger extends AbstractTrigger implements PollingTriggerInterface,
             .orElse(StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id));
         var rStateTtl = runContext.render(stateTtl).as(Duration.class);
 
-        var ctx = SmbService.createContext(runContext, this);
-        try {
-            var fromPath = runContext.render(this.from).as(String.class).orElseThrow();
-
-            io.kestra.plugin.fs.vfs.List.Output run; // FQCN needed: naming conflict with smb.List
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = SmbService.createContext(runContext, this);
             try {
-                run = SmbService.list(
-                    runContext,
-                    ctx,
-                    this,
-                    fromPath,
-                    runContext.render(this.regExp).as(String.class).orElse(null),
-                    runContext.render(this.recursive).as(Boolean.class).orElse(false)
-                );
-            } catch (org.codelibs.jcifs.smb.impl.SmbException e) {
-                logger.debug("From path doesn't exist '{}'", fromPath);
-                return Optional.empty();
-            }
+                var fromPath = runContext.render(this.from).as(String.class).orElseThrow();
+
+                io.kestra.plugin.fs.vfs.List.Output run; // FQCN needed: naming conflict with smb.List
+                try {
+                    run = SmbService.list(
+                        runContext,
+                        ctx,
+                        this,
+                        fromPath,
+                        runContext.render(this.regExp).as(String.class).orElse(null),
+                        runContext.render(this.recursive).as(Boolean.class).orElse(false)
+                    );
+                } catch (org.codelibs.jcifs.smb.impl.SmbException e) {
+                    logger.debug("From path doesn't exist '{}'", fromPath);
+                    return Optional.empty();
+                }
 
-            if (run.getFiles().isEmpty()) {
-                return Optional.empty();
-            }
+                if (run.getFiles().isEmpty()) {
+                    return Optional.empty();
+                }
 
-            var files = run.getFiles().stream()
-                .filter(file -> file.getFileType() == FileType.FILE)
-                .toList();
+                var files = run.getFiles().stream()
+                    .filter(file -> file.getFileType() == FileType.FILE)
+                    .toList();
 
-            var state = readState(runContext, rStateKey, rStateTtl);
+                var state = readState(runContext, rStateKey, rStateTtl);
 
-            var pendingFiles = new ArrayList<PendingFile>();
+                var pendingFiles = new ArrayList<PendingFile>();
 
-            for (File file : files) {
-                if (file.getFileType().equals(FileType.FOLDER)) {
-                    continue;
-                }
+                for (File file : files) {
+                    if (file.getFileType().equals(FileType.FOLDER)) {
+                        continue;
+                    }
 
-                var remotePath = file.getServerPath().getPath();
-                var updatedDate = Optional.ofNullable(file.getUpdatedDate()).orElse(Instant.EPOCH);
-                var size = Optional.ofNullable(file.getSize()).orElse(0L);
-                var version = String.format("%d_%d_%s", updatedDate.toEpochMilli(), size, remotePath);
+                    var remotePath = file.getServerPath().getPath();
+                    var updatedDate = Optional.ofNullable(file.getUpdatedDate()).orElse(Instant.EPOCH);
+                    var size = Optional.ofNullable(file.getSize()).orElse(0L);
+                    var version = String.format("%d_%d_%s", updatedDate.toEpochMilli(), size, remotePath);
 
-                var candidate = Entry.candidate(remotePath, version, updatedDate);
-                var prev = state.get(remotePath);
+                    var candidate = Entry.candidate(remotePath, version, updatedDate);
+                    var prev = state.get(remotePath);
 
-                if (!shouldFire(prev, version, rOn)) {
-                    computeAndUpdateState(state, candidate, rOn);
-                    continue;
+                    if (!shouldFire(prev, version, rOn)) {
+                        computeAndUpdateState(state, candidate, rOn);
+                        continue;
+                    }
+
+                    var changeType = prev == null ? ChangeType.CREATE : ChangeType.UPDATE;
+                    pendingFiles.add(new PendingFile(file, candidate, changeType));
                 }
 
-                var changeType = prev == null ? ChangeType.CREATE : ChangeType.UPDATE;
-                pendingFiles.add(new PendingFile(file, candidate, changeType));
-            }
+                var rSort = runContext.render(this.sort).as(io.kestra.plugin.fs.vfs.List.Sort.class).orElse(io.kestra.plugin.fs.vfs.List.Sort.NONE);
+                var pendingComparator = io.kestra.plugin.fs.vfs.List.comparator(rSort, (PendingFile p) -> p.file.getUpdatedDate(), (PendingFile p) -> p.file.getName());
+                if (pendingComparator != null) {
+                    pendingFiles.sort(pendingComparator);
+                }
 
-            var rSort = runContext.render(this.sort).as(io.kestra.plugin.fs.vfs.List.Sort.class).orElse(io.kestra.plugin.fs.vfs.List.Sort.NONE);
-            var pendingComparator = io.kestra.plugin.fs.vfs.List.comparator(rSort, (PendingFile p) -> p.file.getUpdatedDate(), (PendingFile p) -> p.file.getName());
-            if (pendingComparator != null) {
-                pendingFiles.sort(pendingComparator);
-            }
+                var rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+                java.util.List<PendingFile> limitedPending = pendingFiles; // reassigned below
+                if (pendingFiles.size() > rMaxFiles) {
+                    logger.warn("Too many files to process ({}), limiting to {}", pendingFiles.size(), rMaxFiles);
+                    limitedPending = pendingFiles.subList(0, rMaxFiles);
+                }
 
-            var rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-            java.util.List<PendingFile> limitedPending = pendingFiles; // reassigned below
-            if (pendingFiles.size() > rMaxFiles) {
-                logger.warn("Too many files to process ({}), limiting to {}", pendingFiles.size(), rMaxFiles);
-                limitedPending = pendingFiles.subList(0, rMaxFiles);
-            }
+                if (limitedPending.isEmpty()) {
+                    writeState(runContext, rStateKey, state, rStateTtl);
+                    return Optional.empty();
+                }
 
-            if (limitedPending.isEmpty()) {
-                writeState(runContext, rStateKey, state, rStateTtl);
-                return Optional.empty();
-            }
+                var actionFiles = new ArrayList<File>();
+                var toFire = new ArrayList<TriggeredFile>();
 
-            var actionFiles = new ArrayList<File>();
-            var toFire = new ArrayList<TriggeredFile>();
+                // 1) Download first, do NOT update state yet.
+                var bandwidth = Bandwidth.of(runContext, this);
+                for (PendingFile pending : limitedPending) {
+                    var download = SmbService.download(SmbDownloadRequest.of(
+                        runContext,
+                        ctx,
+                        this,
+                        pending.file.getServerPath().getPath()
+                    ).withBandwidth(bandwidth));
 
-            // 1) Download first, do NOT update state yet.
-            for (PendingFile pending : limitedPending) {
-                var download = SmbService.download(SmbDownloadRequest.of(
-                    runContext,
-                    ctx,
-                    this,
-                    pending.file.getServerPath().getPath()
-                ));
+                    logger.debug("File '{}' download to '{}'", fromPath, download.getTo());
 
-                logger.debug("File '{}' download to '{}'", fromPath, download.getTo());
+                    var downloaded = pending.file.withPath(download.getTo());
+                    actionFiles.add(downloaded);
 
-                var downloaded = pending.file.withPath(download.getTo());
-                actionFiles.add(downloaded);
+                    toFire.add(TriggeredFile.builder()
+                        .file(downloaded)
+                        .changeType(pending.changeType)
+                        .build());
+                }
 
-                toFire.add(TriggeredFile.builder()
-                    .file(downloaded)
-                    .changeType(pending.changeType)
-                    .build());
-            }
+                if (toFire.isEmpty()) {
+                    writeState(runContext, rStateKey, state, rStateTtl);
+                    return Optional.empty();
+                }
 
-            if (toFire.isEmpty()) {
-                writeState(runContext, rStateKey, state, rStateTtl);
-                return Optional.empty();
-            }
+                // 2) Perform remote action BEFORE committing state.
+                if (this.action != null) {
+                    var rAction = runContext.render(this.action).as(Downloads.Action.class).orElse(null);
+
+                    SmbService.performAction(
+                        runContext,
+                        ctx,
+                        this,
+                        actionFiles,
+                        rAction,
+                        runContext.render(this.moveDirectory).as(String.class).orElse(null)
+                    );
+                }
+
+                // 3) Only now that downloads + actions succeeded, commit state for fired files.
+                for (PendingFile pending : limitedPending) {
+                    computeAndUpdateState(state, pending.candidate, rOn);
+                }
 
-            // 2) Perform remote action BEFORE committing state.
-            if (this.action != null) {
-                var rAction = runContext.render(this.action).as(Downloads.Action.class).orElse(null);
+                writeState(runContext, rStateKey, state, rStateTtl);
 
-                SmbService.performAction(
-                    runContext,
-                    ctx,
+                var execution = TriggerService.generateExecution(
                     this,
-                    actionFiles,
-                    rAction,
-                    runContext.render(this.moveDirectory).as(String.class).orElse(null)
+                    conditionContext,
+                    context,
+                    Output.builder().files(toFire).build()
                 );
-            }
 
-            // 3) Only now that downloads + actions succeeded, commit state for fired files.
-            for (PendingFile pending : limitedPending) {
-                computeAndUpdateState(state, pending.candidate, rOn);
+                return Optional.of(execution);
+            } finally {
+                ctx.close();
             }
-
-            writeState(runContext, rStateKey, state, rStateTtl);
-
-            var execution = TriggerService.generateExecution(
-                this,
-                conditionContext,
-                context,
-                Output.builder().files(toFire).build()
-            );
-
-            return Optional.of(execution);
-        } finally {
-            ctx.close();
         }
     }
 
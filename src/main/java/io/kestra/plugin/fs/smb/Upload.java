@@ -6,6 +6,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -71,23 +72,27 @@ public class Upload extends AbstractSmbTask implements RunnableTask<io.kestra.pl
     private Property<Boolean> overwrite = Property.ofValue(false);
 
     public io.kestra.plugin.fs.vfs.Upload.Output run(RunContext runContext) throws Exception {
-        var ctx = createContext(runContext);
-        try {
-            var rFrom = runContext.render(this.from).as(String.class).orElseThrow();
-            if (!rFrom.startsWith("kestra://")) {
-                throw new IllegalArgumentException("'from' must be a Kestra's internal storage URI");
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = createContext(runContext);
+            try {
+                var rFrom = runContext.render(this.from).as(String.class).orElseThrow();
+                if (!rFrom.startsWith("kestra://")) {
+                    throw new IllegalArgumentException("'from' must be a Kestra's internal storage URI");
+                }
+                var rTo = runContext.render(this.to).as(String.class).orElse(rFrom.substring(rFrom.lastIndexOf('/')));
+                return SmbService.upload(
+                    runContext,
+                    ctx,
+                    this,
+                    URI.create(rFrom),
+                    rTo,
+                    runContext.render(this.overwrite).as(Boolean.class).orElseThrow(),
+                    null,
+                    this.bandwidth(runContext)
+                );
+            } finally {
+                ctx.close();
             }
-            var rTo = runContext.render(this.to).as(String.class).orElse(rFrom.substring(rFrom.lastIndexOf('/')));
-            return SmbService.upload(
-                runContext,
-                ctx,
-                this,
-                URI.create(rFrom),
-                rTo,
-                runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-            );
-        } finally {
-            ctx.close();
         }
     }
 }
@@ -8,6 +8,8 @@ import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.plugin.fs.vfs.HostSessions;
+import io.kestra.plugin.fs.vfs.MetadataCache;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -88,45 +90,52 @@ public class Uploads extends AbstractSmbTask implements RunnableTask<Uploads.Out
     private Property<Integer> maxFiles = Property.ofValue(25);
 
     public Output run(RunContext runContext) throws Exception {
-        var ctx = createContext(runContext);
-        try {
-            var fileMappings = parseFromProperty(runContext);
-
-            var rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-            if (fileMappings.size() > rMaxFiles) {
-                runContext.logger().warn("Too many files to process ({}), limiting to {}", fileMappings.size(), rMaxFiles);
-                fileMappings = fileMappings.subList(0, rMaxFiles);
-            }
-
-            var outputs = fileMappings.stream().map(throwFunction(entry -> {
-                var destFileName = entry.getKey();
-                var fromURI = entry.getValue();
-                var rTo = runContext.render(this.to).as(String.class).orElseThrow();
-
-                String destPath;
-                if (destFileName != null) {
-                    destPath = rTo + (rTo.endsWith("/") ? "" : "/") + destFileName;
-                } else {
-                    destPath = rTo + fromURI.substring(fromURI.lastIndexOf('/') + (rTo.endsWith("/") ? 1 : 0));
+        try (HostSessions.Lease lease = HostSessions.acquire(runContext, this, 1)) {
+            var ctx = createContext(runContext);
+            try {
+                var fileMappings = parseFromProperty(runContext);
+
+                var rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+                if (fileMappings.size() > rMaxFiles) {
+                    runContext.logger().warn("Too many files to process ({}), limiting to {}", fileMappings.size(), rMaxFiles);
+                    fileMappings = fileMappings.subList(0, rMaxFiles);
                 }
 
-                return SmbService.upload(
-                    runContext,
-                    ctx,
-                    this,
-                    URI.create(fromURI),
-                    destPath
-                );
-            })).toList();
-
-            return Output.builder()
-                .files(outputs.stream()
-                    .map(io.kestra.plugin.fs.vfs.Upload.Output::getTo)
-                    .toList()
-                )
-                .build();
-        } finally {
-            ctx.close();
+                var cache = new MetadataCache();
+                var bandwidth = this.bandwidth(runContext);
+                var outputs = fileMappings.stream().map(throwFunction(entry -> {
+                    var destFileName = entry.getKey();
+                    var fromURI = entry.getValue();
+                    var rTo = runContext.render(this.to).as(String.class).orElseThrow();
+
+                    String destPath;
+                    if (destFileName != null) {
+                        destPath = rTo + (rTo.endsWith("/") ? "" : "/") + destFileName;
+                    } else {
+                        destPath = rTo + fromURI.substring(fromURI.lastIndexOf('/') + (rTo.endsWith("/") ? 1 : 0));
+                    }
+
+                    return SmbService.upload(
+                        runContext,
+                        ctx,
+                        this,
+                        URI.create(fromURI),
+                        destPath,
+                        false,
+                        cache,
+                        bandwidth
+                    );
+                })).toList();
+
+                return Output.builder()
+                    .files(outputs.stream()
+                        .map(io.kestra.plugin.fs.vfs.Upload.Output::getTo)
+                        .toList()
+                    )
+                    .build();
+            } finally {
+                ctx.close();
+            }
         }
     }
 
@@ -11,6 +11,7 @@ import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.tasks.runners.PluginUtilsService;
 import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.HostSessions;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -185,6 +186,9 @@ public class Command extends Task implements SshInterface, RunnableTask<Command.
     @PluginProperty(group = "connection")
     private Property<String> port = Property.ofValue("22");
 
+    @PluginProperty(group = "connection")
+    private Property<Integer> maxSessionsPerHost;
+
     @Schema(title = "Commands to execute")
     @PluginProperty(dynamic = true, group = "main")
     @NotNull
@@ -222,6 +226,7 @@ public class Command extends Task implements SshInterface, RunnableTask<Command.
         JSch jsch;
         Session session = null;
         ChannelExec channel = null;
+        HostSessions.Lease lease = null;
         Thread stdOut = null;
         Thread stdErr = null;
 
@@ -305,6 +310,7 @@ public class Command extends Task implements SshInterface, RunnableTask<Command.
             }
 
             session.setConfig("StrictHostKeyChecking", runContext.render(strictHostKeyChecking).as(String.class).orElse(null));
+            lease = HostSessions.acquire(runContext, renderedHost, renderedPort, runContext.render(maxSessionsPerHost).as(Integer.class).orElse(null), 1);
             session.connect();
 
             channel = (ChannelExec) session.openChannel("exec");
@@ -353,6 +359,9 @@ public class Command extends Task implements SshInterface, RunnableTask<Command.
             if (session != null) {
                 session.disconnect();
             }
+            if (lease != null) {
+                lease.close();
+            }
             if (stdOut != null) {
                 stdOut.join();
             }
@@ -77,6 +77,14 @@ public interface SshInterface {
     @PluginProperty(group = "advanced")
     Property<String> getProxyCommand();
 
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker",
+        description = "Shared with the SFTP tasks and the other SSH commands of the worker connecting to the same host and port; commands above the limit wait for a session to end, in arrival order, " +
+            "instead of being refused by the server. Set it below the server `MaxStartups`. No limit by default."
+    )
+    @PluginProperty(group = "connection")
+    Property<Integer> getMaxSessionsPerHost();
+
     enum AuthMethod {
         PASSWORD,
         PUBLIC_KEY,
@@ -0,0 +1,289 @@
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.plugin.fs.ftp.FtpInterface;
+import io.kestra.plugin.fs.ftps.FtpsInterface;
+import io.kestra.plugin.fs.sftp.SftpInterface;
+import io.kestra.plugin.fs.smb.SmbInterface;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+import org.apache.commons.vfs2.provider.ftps.FtpsDataChannelProtectionLevel;
+import org.apache.commons.vfs2.provider.ftps.FtpsMode;
+
+import java.net.Proxy;
+
+@Getter
+@Builder
+@Jacksonized
+public class Endpoint implements SmbInterface {
+    @Schema(
+        title = "Protocol of the server"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<Protocol> protocol;
+
+    @Schema(
+        title = "Remote host"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> host;
+
+    @Schema(
+        title = "Remote port",
+        description = "Defaults to the protocol port: 22 for SFTP, 21 for FTP, 990 for FTPS and 445 for SMB."
+    )
+    @PluginProperty(group = "connection")
+    private Property<String> port;
+
+    @Schema(
+        title = "Username"
+    )
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> username;
+
+    @Schema(
+        title = "Password"
+    )
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> password;
+
+    @Schema(
+        title = "Remote path",
+        description = "A file, or a directory when it ends with `/`. For SMB, the path starts with the share name."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> path;
+
+    @Schema(
+        title = "SSH private key (PEM)",
+        description = "SFTP only. PEM-formatted private key for public key auth."
+    )
+    @PluginProperty(secret = true, group = "connection")
+    private Property<String> keyfile;
+
+    @Schema(
+        title = "Passphrase for the SSH key",
+        description = "SFTP only."
+    )
+    @PluginProperty(secret = true, group = "advanced")
+    private Property<String> passphrase;
+
+    @Schema(
+        title = "Key exchange algorithm",
+        description = "SFTP only. Override the KEX algorithm."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> keyExchangeAlgorithm;
+
+    @Schema(
+        title = "SSH throughput settings",
+        description = "SFTP only."
+    )
+    @PluginProperty(group = "advanced")
+    private SftpInterface.Performance performance;
+
+    @Schema(
+        title = "Treat path as user home root",
+        description = "SFTP, FTP and FTPS only. If true (default), remote paths are resolved relative to the authenticated user's home directory."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> rootDir = Property.ofValue(true);
+
+    @Schema(
+        title = "Use passive data connections",
+        description = "FTP and FTPS only. Enabled by default."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> passiveMode = Property.ofValue(true);
+
+    @Schema(
+        title = "Verify data channel IP",
+        description = "FTP and FTPS only. Enabled by default."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> remoteIpVerification = Property.ofValue(true);
+
+    @Schema(
+        title = "Select FTPS mode",
+        description = "FTPS only. Default EXPLICIT."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<FtpsMode> mode = Property.ofValue(FtpsMode.EXPLICIT);
+
+    @Schema(
+        title = "Data channel protection level",
+        description = "FTPS only. Default P (encrypted)."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<FtpsDataChannelProtectionLevel> dataChannelProtectionLevel = Property.ofValue(FtpsDataChannelProtectionLevel.P);
+
+    @Schema(
+        title = "Trust all certificates",
+        description = "FTPS only. Skip server certificate validation. Insecure: use only for testing against self-signed or untrusted certificates."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> insecureTrustAllCertificates;
+
+    SftpInterface sftp() {
+        Endpoint endpoint = this;
+
+        return new SftpInterface() {
+            @Override
+            public Property<String> getKeyfile() {
+                return endpoint.keyfile;
+            }
+
+            @Override
+            public Property<String> getPassphrase() {
+                return endpoint.passphrase;
+            }
+
+            @Override
+            public Property<String> getProxyHost() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyAddress() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyPort() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyUser() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyUsername() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyPassword() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyType() {
+                return null;
+            }
+
+            @Override
+            public Property<Boolean> getRootDir() {
+                return endpoint.rootDir;
+            }
+
+            @Override
+            public Property<String> getKeyExchangeAlgorithm() {
+                return endpoint.keyExchangeAlgorithm;
+            }
+
+            @Override
+            public Performance getPerformance() {
+                return endpoint.performance;
+            }
+        };
+    }
+
+    FtpInterface ftp() {
+        Endpoint endpoint = this;
+
+        return new FtpInterface() {
+            @Override
+            public Property<String> getProxyHost() {
+                return null;
+            }
+
+            @Override
+            public Property<String> getProxyPort() {
+                return null;
+            }
+
+            @Override
+            public Property<Proxy.Type> getProxyType() {
+                return null;
+            }
+
+            @Override
+            public Property<Boolean> getRootDir() {
+                return endpoint.rootDir;
+            }
+
+            @Override
+            public Property<Boolean> getPassiveMode() {
+                return endpoint.passiveMode;
+            }
+
+            @Override
+            public Property<Boolean> getRemoteIpVerification() {
+                return endpoint.remoteIpVerification;
+            }
+
+            @Override
+            public Options getOptions() {
+                return Options.builder().build();
+            }
+        };
+    }
+
+    FtpsInterface ftps() {
+        Endpoint endpoint = this;
+
+        return new FtpsInterface() {
+            @Override
+            public Property<FtpsMode> getMode() {
+                return endpoint.mode;
+            }
+
+            @Override
+            public Property<FtpsDataChannelProtectionLevel> getDataChannelProtectionLevel() {
+                return endpoint.dataChannelProtectionLevel;
+            }
+
+            @Override
+            public Property<Boolean> getInsecureTrustAllCertificates() {
+                return endpoint.insecureTrustAllCertificates;
+            }
+        };
+    }
+
+    public enum Protocol {
+        SFTP("sftp", "22"),
+        FTP("ftp", "21"),
+        FTPS("ftps", "990"),
+        SMB("smb", "445");
+
+        private final String scheme;
+        private final String defaultPort;
+
+        Protocol(String scheme, String defaultPort) {
+            this.scheme = scheme;
+            this.defaultPort = defaultPort;
+        }
+
+        public String scheme() {
+            return scheme;
+        }
+
+        public String defaultPort() {
+            return defaultPort;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.core.exceptions.KestraRuntimeException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.ftp.FtpService;
+import io.kestra.plugin.fs.ftps.FtpsService;
+import io.kestra.plugin.fs.sftp.SftpService;
+import io.kestra.plugin.fs.smb.SmbService;
+import io.kestra.plugin.fs.vfs.MetadataCache;
+import io.kestra.plugin.fs.vfs.VfsService;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.FileType;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+import org.codelibs.jcifs.smb.CIFSContext;
+import org.codelibs.jcifs.smb.impl.SmbFile;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams to and from one {@link Endpoint}, shared by all the files of a transfer.
+ */
+abstract class EndpointConnection implements AutoCloseable {
+    protected final RunContext runContext;
+    protected final String host;
+    protected final String port;
+    private final MetadataCache cache = new MetadataCache();
+
+    private EndpointConnection(RunContext runContext, String host, String port) {
+        this.runContext = runContext;
+        this.host = host;
+        this.port = port;
+    }
+
+    static EndpointConnection open(RunContext runContext, Endpoint endpoint) throws Exception {
+        var rProtocol = runContext.render(endpoint.getProtocol()).as(Endpoint.Protocol.class).orElseThrow();
+        var rHost = runContext.render(endpoint.getHost()).as(String.class).orElseThrow();
+        var rPort = runContext.render(endpoint.getPort()).as(String.class).orElse(rProtocol.defaultPort());
+
+        if (rProtocol == Endpoint.Protocol.SMB) {
+            return new Smb(runContext, endpoint, rHost, rPort);
+        }
+
+        FileSystemOptions options = switch (rProtocol) {
+            case SFTP -> SftpService.fsOptions(runContext, endpoint.sftp());
+            case FTP -> FtpService.fsOptions(runContext, endpoint.ftp());
+            case FTPS -> FtpsService.fsOptions(runContext, endpoint.ftp(), endpoint.ftps());
+            case SMB -> throw new IllegalStateException();
+        };
+
+        return new Vfs(
+            runContext,
+            rProtocol.scheme(),
+            rHost,
+            rPort,
+            runContext.render(endpoint.getUsername()).as(String.class).orElse(null),
+            runContext.render(endpoint.getPassword()).as(String.class).orElse(null),
+            options
+        );
+    }
+
+    /**
+     * Paths of the files directly in a directory, matching the optional regular expression.
+     */
+    abstract List<String> list(String directory, String regExp) throws Exception;
+
+    abstract InputStream read(String path) throws Exception;
+
+    /**
+     * Checks that the file can be written and creates its parent directories.
+     */
+    abstract void prepare(String path, boolean overwrite) throws Exception;
+
+    /**
+     * Opens the file for writing, see {@link #prepare(String, boolean)}. The content is only complete once the stream is closed.
+     */
+    abstract OutputStream write(String path, boolean overwrite) throws Exception;
+
+    abstract URI uri(String path) throws Exception;
+
+    protected void ensureParent(String path, ParentCreator creator) throws Exception {
+        String parent = FilenameUtils.getFullPathNoEndSeparator(path);
+        if (!cache.isKnownFolder(parent)) {
+            // concurrent files of a transfer usually share their parent, create it once
+            synchronized (this) {
+                if (!cache.isKnownFolder(parent)) {
+                    creator.create();
+                    cache.addFolder(parent);
+                }
+            }
+        }
+    }
+
+    protected static KestraRuntimeException alreadyExists(URI uri) {
+        return new KestraRuntimeException(String.format(
+            "File '%s' already exists in the remote server and cannot be overwritten. If you want to ignore this, set `overwrite` to `true`.",
+            uri
+        ));
+    }
+
+    @FunctionalInterface
+    protected interface ParentCreator {
+        void create() throws Exception;
+    }
+
+    static class Vfs extends EndpointConnection {
+        private final String scheme;
+        private final String username;
+        private final String password;
+        private final FileSystemOptions options;
+        private final StandardFileSystemManager fsm;
+
+        Vfs(RunContext runContext, String scheme, String host, String port, String username, String password, FileSystemOptions options) throws Exception {
+            super(runContext, host, port);
+            this.scheme = scheme;
+            this.username = username;
+            this.password = password;
+            this.options = options;
+
+            this.fsm = VfsService.fileSystemManager(runContext);
+        }
+
+        private URI authenticatedUri(String path) throws Exception {
+            return VfsService.uri(scheme, host, Integer.parseInt(port), username, password, path);
+        }
+
+        @Override
+        List<String> list(String directory, String regExp) throws Exception {
+            return VfsService.list(runContext, fsm, options, authenticatedUri(directory), regExp, false)
+                .getFiles()
+                .stream()
+                .map(file -> file.getPath().getPath())
+                .toList();
+        }
+
+        @Override
+        InputStream read(String path) throws Exception {
+            FileObject file = fsm.resolveFile(authenticatedUri(path).toString(), options);
+            if (!file.exists()) {
+                file.close();
+                throw new NoSuchElementException("Unable to find file '" + uri(path) + "'");
+            }
+
+            return new FilterInputStream(file.getContent().getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        file.close();
+                    }
+                }
+            };
+        }
+
+        @Override
+        void prepare(String path, boolean overwrite) throws Exception {
+            try (FileObject file = fsm.resolveFile(authenticatedUri(path).toString(), options)) {
+                FileType type = file.getType();
+                if (type == FileType.FOLDER || (type != FileType.IMAGINARY && !overwrite)) {
+                    throw alreadyExists(uri(path));
+                }
+
+                ensureParent(path, () -> {
+                    FileObject parent = file.getParent();
+                    if (parent != null && !parent.exists()) {
+                        parent.createFolder();
+                    }
+                });
+            }
+        }
+
+        @Override
+        OutputStream write(String path, boolean overwrite) throws Exception {
+            prepare(path, overwrite);
+
+            FileObject file = fsm.resolveFile(authenticatedUri(path).toString(), options);
+            return new FilterOutputStream(file.getContent().getOutputStream()) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        file.close();
+                    }
+                }
+            };
+        }
+
+        @Override
+        URI uri(String path) throws Exception {
+            return VfsService.uriWithoutAuth(authenticatedUri(path));
+        }
+
+        @Override
+        public void close() {
+            fsm.close();
+        }
+    }
+
+    static class Smb extends EndpointConnection {
+        private final Endpoint endpoint;
+        private final CIFSContext cifsContext;
+
+        Smb(RunContext runContext, Endpoint endpoint, String host, String port) throws Exception {
+            super(runContext, host, port);
+            this.endpoint = endpoint;
+            this.cifsContext = SmbService.createContext(runContext, endpoint);
+        }
+
+        @Override
+        List<String> list(String directory, String regExp) throws Exception {
+            return SmbService.list(runContext, cifsContext, endpoint, directory, regExp, false)
+                .getFiles()
+                .stream()
+                .map(file -> file.getPath().getPath())
+                .toList();
+        }
+
+        @Override
+        InputStream read(String path) throws Exception {
+            SmbFile file = new SmbFile(SmbService.smbUrl(runContext, endpoint, path), cifsContext);
+            if (!file.exists()) {
+                file.close();
+                throw new NoSuchElementException("Unable to find file '" + uri(path) + "'");
+            }
+
+            return new FilterInputStream(file.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        file.close();
+                    }
+                }
+            };
+        }
+
+        @Override
+        void prepare(String path, boolean overwrite) throws Exception {
+            String url = SmbService.smbUrl(runContext, endpoint, path);
+            try (SmbFile file = new SmbFile(url, cifsContext)) {
+                if (file.exists() && (file.isDirectory() || !overwrite)) {
+                    throw alreadyExists(uri(path));
+                }
+            }
+
+            ensureParent(path, () -> SmbService.ensureDirectory(cifsContext, url.substring(0, url.lastIndexOf('/') + 1), null));
+        }
+
+        @Override
+        OutputStream write(String path, boolean overwrite) throws Exception {
+            prepare(path, overwrite);
+
+            SmbFile file = new SmbFile(SmbService.smbUrl(runContext, endpoint, path), cifsContext);
+            return new FilterOutputStream(file.getOutputStream()) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        file.close();
+                    }
+                }
+            };
+        }
+
+        @Override
+        URI uri(String path) throws Exception {
+            return SmbService.serverPathUri(host, port, path);
+        }
+
+        @Override
+        public void close() throws Exception {
+            cifsContext.close();
+        }
+    }
+}
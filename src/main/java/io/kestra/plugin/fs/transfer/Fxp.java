@@ -0,0 +1,215 @@
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.ftp.FtpService;
+import io.kestra.plugin.fs.ftps.FtpsService;
+import org.apache.commons.net.ftp.FTPClient;
+import org.apache.commons.net.ftp.FTPReply;
+import org.apache.commons.vfs2.provider.ftps.FtpsDataChannelProtectionLevel;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * FXP transfers: the source server sends the content straight to the destination server, over a data connection
+ * opened with `PASV` on the destination and `PORT` on the source. The worker only drives both control connections.
+ * Many servers refuse to connect to another host than the client's, callers fall back to relaying the content.
+ * <p>
+ * The logged-in control connections are reused across the files of a task, one pair for each file in flight.
+ */
+final class Fxp implements AutoCloseable {
+    private final RunContext runContext;
+    private final Endpoint source;
+    private final Endpoint destination;
+    private final boolean protectedData;
+    private final BlockingDeque<Pair> idle = new LinkedBlockingDeque<>();
+
+    private Fxp(RunContext runContext, Endpoint source, Endpoint destination, boolean protectedData) {
+        this.runContext = runContext;
+        this.source = source;
+        this.destination = destination;
+        this.protectedData = protectedData;
+    }
+
+    static boolean supports(Endpoint.Protocol source, Endpoint.Protocol destination) {
+        return isFtp(source) && isFtp(destination);
+    }
+
+    private static boolean isFtp(Endpoint.Protocol protocol) {
+        return protocol == Endpoint.Protocol.FTP || protocol == Endpoint.Protocol.FTPS;
+    }
+
+    /**
+     * Logs in to both servers, and checks that they can send the content to each other.
+     *
+     * @return null when they can't, the content then being relayed through the worker
+     */
+    static Fxp open(RunContext runContext, Endpoint source, Endpoint destination) throws IllegalVariableEvaluationException {
+        boolean sourceProtected = isProtected(runContext, source);
+        if (sourceProtected != isProtected(runContext, destination)) {
+            runContext.logger().warn("Only one of the servers encrypts its data connections (`PROT P`), relaying the content through the worker instead of a server-to-server transfer");
+            return null;
+        }
+
+        Fxp fxp = new Fxp(runContext, source, destination, sourceProtected);
+        try {
+            Pair pair = fxp.connect();
+            fxp.idle.offerFirst(pair);
+        } catch (IOException e) {
+            fxp.close();
+            runContext.logger().warn("Server-to-server transfer unavailable, relaying the content through the worker instead: {}", e.getMessage());
+            return null;
+        }
+
+        return fxp;
+    }
+
+    private static boolean isProtected(RunContext runContext, Endpoint endpoint) throws IllegalVariableEvaluationException {
+        if (runContext.render(endpoint.getProtocol()).as(Endpoint.Protocol.class).orElseThrow() != Endpoint.Protocol.FTPS) {
+            return false;
+        }
+
+        return runContext.render(endpoint.ftps().getDataChannelProtectionLevel()).as(FtpsDataChannelProtectionLevel.class)
+            .orElse(FtpsDataChannelProtectionLevel.P) == FtpsDataChannelProtectionLevel.P;
+    }
+
+    /**
+     * Transfers a file over an idle pair of connections, or a new one when all are in use. A pair that failed is
+     * disconnected instead of being reused.
+     *
+     * @return the size of the transferred file, or null when the source server doesn't tell
+     */
+    Long transfer(String from, String to) throws IOException, IllegalVariableEvaluationException {
+        Pair pair = idle.pollFirst();
+        if (pair == null) {
+            pair = this.connect();
+        }
+
+        Long size;
+        try {
+            size = pair.transfer(from, to);
+        } catch (IOException | RuntimeException e) {
+            pair.close();
+            throw e;
+        }
+
+        idle.offerFirst(pair);
+        return size;
+    }
+
+    private Pair connect() throws IOException, IllegalVariableEvaluationException {
+        FTPClient sourceClient = client(runContext, source);
+        FTPClient destinationClient;
+        try {
+            destinationClient = client(runContext, destination);
+        } catch (IOException | IllegalVariableEvaluationException | RuntimeException e) {
+            FtpService.disconnectQuietly(sourceClient);
+            throw e;
+        }
+
+        Pair pair = new Pair(sourceClient, destinationClient);
+        try {
+            if (protectedData) {
+                // the source connects to the destination, so it must take the client side of the TLS handshake
+                if (!sourceClient.hasFeature("SSCN")) {
+                    throw new IOException("The source server encrypts its data connections but doesn't support `SSCN`");
+                }
+
+                if (!FTPReply.isPositiveCompletion(sourceClient.sendCommand("SSCN", "ON"))) {
+                    throw new IOException("The source server refused `SSCN ON`: " + sourceClient.getReplyString().strip());
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            pair.close();
+            throw e;
+        }
+
+        return pair;
+    }
+
+    private static FTPClient client(RunContext runContext, Endpoint endpoint) throws IOException, IllegalVariableEvaluationException {
+        return switch (runContext.render(endpoint.getProtocol()).as(Endpoint.Protocol.class).orElseThrow()) {
+            case FTP -> FtpService.client(runContext, endpoint, endpoint.ftp());
+            case FTPS -> FtpsService.client(runContext, endpoint, endpoint.ftp(), endpoint.ftps());
+            default -> throw new IllegalArgumentException("Server-to-server transfers are only supported between FTP and FTPS servers");
+        };
+    }
+
+    @Override
+    public void close() {
+        Pair pair;
+        while ((pair = idle.pollFirst()) != null) {
+            pair.close();
+        }
+    }
+
+    private final class Pair {
+        private final FTPClient sourceClient;
+        private final FTPClient destinationClient;
+
+        private Pair(FTPClient sourceClient, FTPClient destinationClient) {
+            this.sourceClient = sourceClient;
+            this.destinationClient = destinationClient;
+        }
+
+        private Long transfer(String from, String to) throws IOException, IllegalVariableEvaluationException {
+            String sourcePath = FtpService.remotePath(runContext, source.ftp(), from);
+            String destinationPath = FtpService.remotePath(runContext, destination.ftp(), to);
+
+            if (!destinationClient.enterRemotePassiveMode()) {
+                throw new IOException("Destination server refused PASV: " + destinationClient.getReplyString().strip());
+            }
+
+            InetAddress passiveHost = InetAddress.getByName(destinationClient.getPassiveHost());
+            if (!sourceClient.enterRemoteActiveMode(passiveHost, destinationClient.getPassivePort())) {
+                throw new IOException("Source server refused PORT to the destination server: " + sourceClient.getReplyString().strip());
+            }
+
+            // the destination already listens since PASV, so the source can connect as soon as it accepts RETR
+            if (!sourceClient.remoteRetrieve(sourcePath)) {
+                throw new IOException("Source server refused RETR: " + sourceClient.getReplyString().strip());
+            }
+
+            if (!destinationClient.remoteStore(destinationPath)) {
+                String reply = destinationClient.getReplyString().strip();
+                sourceClient.abort();
+                throw new IOException("Destination server refused STOR: " + reply);
+            }
+
+            // from here on, a failure may leave a partial file on the destination
+            try {
+                boolean retrieved = sourceClient.completePendingCommand();
+                boolean stored = destinationClient.completePendingCommand();
+                if (!retrieved || !stored) {
+                    String reply = (retrieved ? destinationClient : sourceClient).getReplyString().strip();
+                    throw new IOException("Server-to-server transfer of '" + from + "' failed: " + reply);
+                }
+            } catch (IOException | RuntimeException e) {
+                deleteQuietly(destinationClient, destinationPath);
+                throw e;
+            }
+
+            String size = sourceClient.getSize(sourcePath);
+
+            return size != null && size.strip().matches("\\d+") ? Long.valueOf(size.strip()) : null;
+        }
+
+        private void close() {
+            try {
+                FtpService.disconnectQuietly(destinationClient);
+            } finally {
+                FtpService.disconnectQuietly(sourceClient);
+            }
+        }
+    }
+
+    private static void deleteQuietly(FTPClient client, String path) {
+        try {
+            client.deleteFile(path);
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.kestra.plugin.fs.transfer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Copies a stream into another with two alternating buffers: a reader thread fills one buffer from the source
+ * while the calling thread writes the other to the destination, so both connections stay busy. Memory is bounded
+ * to the two buffers whatever the size of the content.
+ */
+final class StreamRelay {
+    private StreamRelay() {
+    }
+
+    static Result relay(InputStream in, OutputStream out, int bufferSize, MessageDigest digest) throws IOException, InterruptedException {
+        BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(2);
+        BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(2);
+        free.add(new byte[bufferSize]);
+        free.add(new byte[bufferSize]);
+
+        Thread reader = Thread.ofPlatform()
+            .name("stream-relay-reader")
+            .daemon()
+            .start(() -> read(in, free, filled));
+
+        long size = 0;
+        boolean completed = false;
+        try {
+            while (true) {
+                Chunk chunk = filled.take();
+                if (chunk.failure() != null) {
+                    throw chunk.failure();
+                }
+
+                if (chunk.buffer() == null) {
+                    break;
+                }
+
+                out.write(chunk.buffer(), 0, chunk.length());
+                digest.update(chunk.buffer(), 0, chunk.length());
+                size += chunk.length();
+
+                free.put(chunk.buffer());
+            }
+
+            completed = true;
+        } finally {
+            if (completed) {
+                reader.join();
+            } else {
+                // the reader may be blocked on the source; it ends when the caller closes it
+                reader.interrupt();
+            }
+        }
+
+        return new Result(size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static void read(InputStream in, BlockingQueue<byte[]> free, BlockingQueue<Chunk> filled) {
+        try {
+            try {
+                while (true) {
+                    byte[] buffer = free.take();
+                    int length = in.readNBytes(buffer, 0, buffer.length);
+
+                    if (length > 0) {
+                        filled.put(new Chunk(buffer, length, null));
+                    }
+
+                    // readNBytes only returns less than requested at the end of the stream
+                    if (length < buffer.length) {
+                        filled.put(new Chunk(null, 0, null));
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                filled.put(new Chunk(null, 0, e));
+            } catch (RuntimeException e) {
+                filled.put(new Chunk(null, 0, new IOException(e)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Chunk(byte[] buffer, int length, IOException failure) {
+    }
+
+    record Result(long size, String checksum) {
+    }
+}
@@ -0,0 +1,326 @@
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.RunContext;
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import io.kestra.plugin.fs.vfs.VfsService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Transfer files between two remote servers",
+    description = "Streams files from an SFTP, FTP, FTPS or SMB server to another one, possibly of a different protocol, without going through internal storage. " +
+        "The content is relayed in bounded chunks: reading the next chunk from the source overlaps with writing the previous one to the destination, and the checksum is computed on the fly. " +
+        "When the source path ends with `/`, all the files of the directory matching `regExp` are transferred in parallel. " +
+        "Between two FTP/FTPS servers, the content is sent directly from one server to the other (FXP) when both accept it."
+)
+@Plugin(
+    examples = {
+        @Example(
+            full = true,
+            title = "Transfer a file from an SFTP server to an SMB share.",
+            code = """
+                id: fs_transfer
+                namespace: company.team
+
+                tasks:
+                  - id: transfer
+                    type: io.kestra.plugin.fs.transfer.Transfer
+                    source:
+                      protocol: SFTP
+                      host: sftp.example.com
+                      username: foo
+                      password: "{{ secret('SFTP_PASSWORD') }}"
+                      path: /upload/report.csv
+                    destination:
+                      protocol: SMB
+                      host: smb.example.com
+                      username: bar
+                      password: "{{ secret('SMB_PASSWORD') }}"
+                      path: /share/reports/
+                """
+        ),
+        @Example(
+            full = true,
+            title = "Transfer all the CSV files of an FTP directory to an SFTP server, four at a time.",
+            code = """
+                id: fs_transfer_directory
+                namespace: company.team
+
+                tasks:
+                  - id: transfer
+                    type: io.kestra.plugin.fs.transfer.Transfer
+                    source:
+                      protocol: FTP
+                      host: ftp.example.com
+                      username: foo
+                      password: "{{ secret('FTP_PASSWORD') }}"
+                      path: /outgoing/
+                    destination:
+                      protocol: SFTP
+                      host: sftp.example.com
+                      username: bar
+                      password: "{{ secret('SFTP_PASSWORD') }}"
+                      path: /incoming/
+                    regExp: ".*\\\\.csv$"
+                    concurrency: 4
+                """
+        )
+    }
+)
+public class Transfer extends Task implements RunnableTask<Transfer.Output> {
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    @Schema(
+        title = "Server and path to read from",
+        description = "A file, or a directory when the path ends with `/`."
+    )
+    @NotNull
+    @Valid
+    @PluginProperty(group = "main")
+    private Endpoint source;
+
+    @Schema(
+        title = "Server and path to write to",
+        description = "Full target path for a single file. If it ends with `/`, or when transferring a directory, the source names are kept."
+    )
+    @NotNull
+    @Valid
+    @PluginProperty(group = "main")
+    private Endpoint destination;
+
+    @Schema(
+        title = "Regexp filter on full path",
+        description = "Only used when the source is a directory."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> regExp;
+
+    @Builder.Default
+    @Schema(
+        title = "Maximum files to transfer",
+        description = "Only used when the source is a directory."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Integer> maxFiles = Property.ofValue(25);
+
+    @Schema(
+        title = "Overwrite existing files",
+        description = "If false, fails when a destination file already exists. Default true."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> overwrite = Property.ofValue(true);
+
+    @Schema(
+        title = "Number of files transferred in parallel"
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Size in bytes of the relay buffers",
+        description = "Two buffers of this size are used per file in flight. Default 256 KiB."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> bufferSize = Property.ofValue(DEFAULT_BUFFER_SIZE);
+
+    @Schema(
+        title = "Transfer directly between FTP servers",
+        description = "When both servers are FTP or FTPS, the destination opens a passive data port and the source sends the content to it (FXP), so the content doesn't go through the worker. " +
+            "Many servers refuse FXP for security reasons, the transfer then falls back to relaying the content through the worker for all remaining files. No checksum is computed for server-to-server transfers."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> serverToServer = Property.ofValue(true);
+
+    @Schema(
+        title = "Checksum algorithm",
+        description = "Algorithm of the checksum computed while transferring each file."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<ChecksumService.Algorithm> checksumAlgorithm = Property.ofValue(ChecksumService.Algorithm.SHA_256);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        Logger logger = runContext.logger();
+
+        String rSourcePath = runContext.render(this.source.getPath()).as(String.class).orElseThrow();
+        String rDestinationPath = runContext.render(this.destination.getPath()).as(String.class).orElseThrow();
+        boolean rOverwrite = runContext.render(this.overwrite).as(Boolean.class).orElse(true);
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(4);
+        int rBufferSize = runContext.render(this.bufferSize).as(Integer.class).orElse(DEFAULT_BUFFER_SIZE);
+        ChecksumService.Algorithm rChecksumAlgorithm = runContext.render(this.checksumAlgorithm).as(ChecksumService.Algorithm.class).orElse(ChecksumService.Algorithm.SHA_256);
+
+        if (rBufferSize <= 0) {
+            throw new IllegalArgumentException("`bufferSize` must be positive, got " + rBufferSize);
+        }
+
+        ChecksumService.warnIfWeak(logger, rChecksumAlgorithm);
+
+        AtomicBoolean fxp = new AtomicBoolean(
+            runContext.render(this.serverToServer).as(Boolean.class).orElse(true) &&
+                Fxp.supports(
+                    runContext.render(this.source.getProtocol()).as(Endpoint.Protocol.class).orElseThrow(),
+                    runContext.render(this.destination.getProtocol()).as(Endpoint.Protocol.class).orElseThrow()
+                )
+        );
+
+        try (
+            EndpointConnection sourceConnection = EndpointConnection.open(runContext, this.source);
+            EndpointConnection destinationConnection = EndpointConnection.open(runContext, this.destination);
+            Fxp fxpConnections = fxp.get() ? Fxp.open(runContext, this.source, this.destination) : null
+        ) {
+            fxp.set(fxpConnections != null);
+
+            boolean directory = rSourcePath.endsWith("/");
+
+            java.util.List<String> paths;
+            if (directory) {
+                paths = sourceConnection.list(rSourcePath, runContext.render(this.regExp).as(String.class).orElse(null));
+
+                int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+                if (paths.size() > rMaxFiles) {
+                    logger.warn("Too many files to process ({}), limiting to {}", paths.size(), rMaxFiles);
+                    paths = paths.subList(0, rMaxFiles);
+                }
+            } else {
+                paths = java.util.List.of(rSourcePath);
+            }
+
+            java.util.List<String> sourcePaths = paths;
+            TransferredFile[] transferred = new TransferredFile[sourcePaths.size()];
+
+            VfsService.forEachConcurrently(
+                IntStream.range(0, sourcePaths.size()).boxed().toList(),
+                rConcurrency,
+                index -> {
+                    String from = sourcePaths.get(index);
+                    String to = directory || rDestinationPath.endsWith("/")
+                        ? StringUtils.stripEnd(rDestinationPath, "/") + "/" + FilenameUtils.getName(from)
+                        : rDestinationPath;
+
+                    if (fxp.get()) {
+                        destinationConnection.prepare(to, rOverwrite);
+
+                        try {
+                            Long size = fxpConnections.transfer(from, to);
+
+                            logger.debug("File '{}' transferred to '{}' server-to-server", sourceConnection.uri(from), destinationConnection.uri(to));
+
+                            transferred[index] = TransferredFile.builder()
+                                .from(sourceConnection.uri(from))
+                                .to(destinationConnection.uri(to))
+                                .size(size)
+                                .serverToServer(true)
+                                .build();
+                            return;
+                        } catch (IOException e) {
+                            if (fxp.compareAndSet(true, false)) {
+                                logger.warn("Server-to-server transfer failed, relaying the content through the worker instead: {}", e.getMessage());
+                            }
+                        }
+                    }
+
+                    StreamRelay.Result result;
+                    try (
+                        InputStream in = sourceConnection.read(from);
+                        OutputStream out = destinationConnection.write(to, rOverwrite)
+                    ) {
+                        result = StreamRelay.relay(in, out, rBufferSize, ChecksumService.digest(rChecksumAlgorithm));
+                    }
+
+                    logger.debug("File '{}' transferred to '{}' ({} bytes)", sourceConnection.uri(from), destinationConnection.uri(to), result.size());
+
+                    transferred[index] = TransferredFile.builder()
+                        .from(sourceConnection.uri(from))
+                        .to(destinationConnection.uri(to))
+                        .size(result.size())
+                        .checksum(result.checksum())
+                        .serverToServer(false)
+                        .build();
+                }
+            );
+
+            java.util.List<TransferredFile> files = Arrays.asList(transferred);
+
+            return Output.builder()
+                .files(files)
+                .size(files.stream().map(TransferredFile::getSize).filter(Objects::nonNull).mapToLong(Long::longValue).sum())
+                .build();
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The transferred files"
+        )
+        private final java.util.List<TransferredFile> files;
+
+        @Schema(
+            title = "Total number of bytes transferred"
+        )
+        private final Long size;
+    }
+
+    @Builder
+    @Getter
+    public static class TransferredFile {
+        @Schema(
+            title = "The source uri"
+        )
+        private final URI from;
+
+        @Schema(
+            title = "The destination uri"
+        )
+        private final URI to;
+
+        @Schema(
+            title = "Size in bytes",
+            description = "Null for server-to-server transfers when the source server doesn't support the SIZE command."
+        )
+        private final Long size;
+
+        @Schema(
+            title = "Checksum of the content",
+            description = "Computed with `checksumAlgorithm` while the content was transferred. Null for server-to-server transfers."
+        )
+        private final String checksum;
+
+        @Schema(
+            title = "Whether the content was sent directly from the source server to the destination server"
+        )
+        private final Boolean serverToServer;
+    }
+}
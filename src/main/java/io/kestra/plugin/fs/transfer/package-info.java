@@ -0,0 +1,11 @@
+@PluginSubGroup(
+    title = "Transfer",
+    description = "This sub-group of plugins contains tasks for transferring files between remote servers, across SFTP, FTP, FTPS and SMB, without going through internal storage.",
+    categories = {
+        PluginSubGroup.PluginCategory.DATA,
+        PluginSubGroup.PluginCategory.INFRASTRUCTURE
+    }
+)
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.core.models.annotations.PluginSubGroup;
@@ -30,4 +30,32 @@ public interface AbstractVfsInterface {
     )
     @PluginProperty(secret = true, group = "connection")
     Property<String> getPassword();
+
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker",
+        description = "Shared by all the tasks and triggers of the worker connecting to the same host and port; tasks above the limit wait for a session to end, in arrival order, " +
+            "instead of being refused by the server. Set it below the server limit, e.g. `MaxStartups` for SSH servers, ideally for all the tasks at once with plugin defaults. No limit by default."
+    )
+    @PluginProperty(group = "connection")
+    default Property<Integer> getMaxSessionsPerHost() {
+        return null;
+    }
+
+    @Schema(
+        title = "Maximum bandwidth of the task in bytes per second",
+        description = "Shared by the concurrent transfers of the task. No limit by default."
+    )
+    @PluginProperty(group = "connection")
+    default Property<Long> getMaxBandwidth() {
+        return null;
+    }
+
+    @Schema(
+        title = "Maximum bandwidth to the server from this worker in bytes per second",
+        description = "Shared by all the tasks and triggers of the worker transferring to or from the same host and port, e.g. to keep a shared link usable by other services. No limit by default."
+    )
+    @PluginProperty(group = "connection")
+    default Property<Long> getMaxBandwidthPerHost() {
+        return null;
+    }
 }
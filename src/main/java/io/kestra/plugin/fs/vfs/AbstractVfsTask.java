@@ -30,6 +30,24 @@ public abstract class AbstractVfsTask extends Task implements AbstractVfsInterfa
     @PluginProperty(secret = true, group = "connection")
     protected Property<String> password;
 
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Integer> maxSessionsPerHost;
+
+    @Schema(
+        title = "Maximum bandwidth of the task in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidth;
+
+    @Schema(
+        title = "Maximum bandwidth to the server from this worker in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidthPerHost;
+
     @Builder.Default
     @Schema(
         title = "Enable the RSA/SHA1 algorithm (disabled by default)"
@@ -42,6 +60,21 @@ public abstract class AbstractVfsTask extends Task implements AbstractVfsInterfa
 
     protected abstract String scheme();
 
+    /**
+     * Sessions the task opens at once to the server, counted against `maxSessionsPerHost`.
+     */
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        return 1;
+    }
+
+    protected HostSessions.Lease hostSession(RunContext runContext) throws IllegalVariableEvaluationException, InterruptedException {
+        return HostSessions.acquire(runContext, this, this.sessions(runContext));
+    }
+
+    protected Bandwidth bandwidth(RunContext runContext) throws IllegalVariableEvaluationException {
+        return Bandwidth.of(runContext, this);
+    }
+
     protected URI uri(RunContext runContext, String filepath) throws IllegalVariableEvaluationException, URISyntaxException, JSchException {
 
         var renderedHost = runContext.render(this.host).as(String.class).orElseThrow();
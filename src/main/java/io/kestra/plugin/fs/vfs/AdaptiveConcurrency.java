@@ -0,0 +1,215 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.runners.RunContext;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Runs transfers in parallel with a concurrency tuned while they run, additive increase, multiplicative decrease:
+ * one more transfer at a time while the aggregate throughput keeps rising, half as many when it drops or when the
+ * server refuses or times out a connection. A transfer failed because of an overloaded server is retried once the
+ * concurrency has been cut.
+ * <p>
+ * The throughput is measured over windows of completed transfers, so that a single slow file doesn't decide alone.
+ */
+public final class AdaptiveConcurrency {
+    static final Duration WINDOW = Duration.ofSeconds(1);
+    static final int OVERLOAD_RETRIES = 3;
+    private static final Duration OVERLOAD_BACKOFF = Duration.ofSeconds(1);
+
+    // ratios to the throughput of the previous window from which the throughput is considered rising, or dropping
+    private static final double RISE = 1.05;
+    private static final double DROP = 0.8;
+
+    private final RunContext runContext;
+    private final int max;
+    private final Predicate<Exception> overloaded;
+
+    private int limit;
+    private int peak;
+    private int inFlight;
+    private long windowStart = System.nanoTime();
+    private long windowBytes;
+    private double previousThroughput;
+
+    /**
+     * @param max the maximum number of transfers at a time
+     * @param overloaded whether a failure tells that the server is overloaded, in addition to refused and timed out connections
+     */
+    public AdaptiveConcurrency(RunContext runContext, int max, Predicate<Exception> overloaded) {
+        if (max < 1) {
+            throw new IllegalArgumentException("`concurrency` must be at least 1, got " + max);
+        }
+
+        this.runContext = runContext;
+        this.max = max;
+        this.overloaded = overloaded;
+        this.limit = Math.min(2, max);
+        this.peak = this.limit;
+    }
+
+    @FunctionalInterface
+    public interface Transfer<T> {
+        /**
+         * @return the number of bytes transferred
+         */
+        long apply(T item) throws Exception;
+    }
+
+    private record Attempt<T>(T item, int retries) {
+    }
+
+    public <T> void forEach(List<T> items, Transfer<T> transfer) throws Exception {
+        Deque<Attempt<T>> queue = new ConcurrentLinkedDeque<>(items.stream().map(item -> new Attempt<>(item, 0)).toList());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(max, items.size())))) {
+            List<Future<Void>> futures = IntStream.range(0, Math.max(1, Math.min(max, items.size())))
+                .mapToObj(worker -> executor.submit(() -> {
+                    this.work(queue, transfer);
+                    return (Void) null;
+                }))
+                .toList();
+
+            Exception failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            this.report();
+        }
+    }
+
+    private <T> void work(Deque<Attempt<T>> queue, Transfer<T> transfer) throws Exception {
+        Exception failure = null;
+
+        while (true) {
+            this.acquire();
+            Attempt<T> attempt = queue.pollFirst();
+            if (attempt == null) {
+                this.release();
+                break;
+            }
+
+            try {
+                this.completed(transfer.apply(attempt.item()));
+            } catch (Exception e) {
+                if (attempt.retries() < OVERLOAD_RETRIES && this.isOverloaded(e)) {
+                    this.decrease("the server is overloaded: " + e.getMessage());
+                    Thread.sleep(OVERLOAD_BACKOFF.toMillis() * (attempt.retries() + 1));
+                    queue.addFirst(new Attempt<>(attempt.item(), attempt.retries() + 1));
+                } else if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            } finally {
+                this.release();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean isOverloaded(Exception e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+
+        return overloaded.test(e);
+    }
+
+    private synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) {
+            this.wait();
+        }
+
+        inFlight++;
+    }
+
+    private synchronized void release() {
+        inFlight--;
+        this.notifyAll();
+    }
+
+    private synchronized void completed(long bytes) {
+        windowBytes += bytes;
+
+        long now = System.nanoTime();
+        long elapsed = now - windowStart;
+        if (elapsed < WINDOW.toNanos()) {
+            return;
+        }
+
+        double throughput = windowBytes * 1_000_000_000d / elapsed;
+        windowStart = now;
+        windowBytes = 0;
+
+        if (previousThroughput > 0 && throughput < previousThroughput * DROP) {
+            this.decrease(String.format("throughput dropped from %.0f to %.0f bytes/s", previousThroughput, throughput));
+            return;
+        }
+
+        if ((previousThroughput == 0 || throughput >= previousThroughput * RISE) && limit < max) {
+            limit++;
+            peak = Math.max(peak, limit);
+            runContext.logger().debug("Throughput rose to {} bytes/s, raising the concurrency to {}", Math.round(throughput), limit);
+            this.notifyAll();
+        }
+
+        previousThroughput = throughput;
+    }
+
+    private synchronized void decrease(String reason) {
+        int decreased = Math.max(1, limit / 2);
+        if (decreased < limit) {
+            runContext.logger().info("Lowering the concurrency from {} to {}, {}", limit, decreased, reason);
+            limit = decreased;
+        }
+
+        // the next window is compared to the throughput at the new concurrency
+        previousThroughput = 0;
+        windowStart = System.nanoTime();
+        windowBytes = 0;
+    }
+
+    /**
+     * The concurrency reached when the transfers end, and the highest one.
+     */
+    private synchronized void report() {
+        runContext.metric(Counter.of("concurrency", limit));
+        runContext.metric(Counter.of("concurrency.peak", peak));
+    }
+
+    synchronized int limit() {
+        return limit;
+    }
+}
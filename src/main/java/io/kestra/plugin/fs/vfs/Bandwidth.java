@@ -0,0 +1,188 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bandwidth limits of the transfers of a task: its own limit, shared by its concurrent transfers, and the limit of the
+ * server, shared by all the tasks of the worker transferring to or from the same host and port.
+ * <p>
+ * Each limit is a token bucket. Bytes are paced in small chunks as they are read or written, and capacity left unused
+ * while idle is kept for a few milliseconds only, so that the link sees a steady rate instead of bursts followed by
+ * pauses.
+ */
+public final class Bandwidth {
+    public static final Bandwidth UNLIMITED = new Bandwidth(List.of());
+
+    private static final Map<String, Bucket> HOSTS = new ConcurrentHashMap<>();
+    private static final long BURST_NANOS = Duration.ofMillis(20).toNanos();
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    private final List<Bucket> buckets;
+    private final int chunkSize;
+
+    private Bandwidth(List<Bucket> buckets) {
+        this.buckets = buckets;
+
+        // about one chunk per burst window, so that pacing stays smooth at low rates
+        long slowest = buckets.stream().mapToLong(bucket -> bucket.bytesPerSecond).min().orElse(Long.MAX_VALUE);
+        this.chunkSize = (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, slowest * BURST_NANOS / 1_000_000_000L));
+    }
+
+    public static Bandwidth of(RunContext runContext, AbstractVfsInterface server) throws IllegalVariableEvaluationException {
+        return of(
+            runContext.render(server.getMaxBandwidth()).as(Long.class).orElse(null),
+            runContext.render(server.getHost()).as(String.class).orElseThrow(),
+            runContext.render(server.getPort()).as(String.class).orElse(null),
+            runContext.render(server.getMaxBandwidthPerHost()).as(Long.class).orElse(null)
+        );
+    }
+
+    /**
+     * @param maxBandwidth the limit of the task in bytes per second, null for no limit
+     */
+    public static Bandwidth of(Long maxBandwidth) {
+        return of(maxBandwidth, null, null, null);
+    }
+
+    /**
+     * @param maxBandwidth the limit of the task in bytes per second, null for no limit
+     * @param maxBandwidthPerHost the limit of the server in bytes per second, null for no limit
+     */
+    public static Bandwidth of(Long maxBandwidth, String host, String port, Long maxBandwidthPerHost) {
+        List<Bucket> buckets = new ArrayList<>();
+
+        if (maxBandwidth != null) {
+            buckets.add(new Bucket(positive("maxBandwidth", maxBandwidth)));
+        }
+
+        if (maxBandwidthPerHost != null) {
+            long rate = positive("maxBandwidthPerHost", maxBandwidthPerHost);
+            Bucket bucket = HOSTS.computeIfAbsent(port == null ? host : host + ":" + port, k -> new Bucket(rate));
+            // the last limit configured for a server applies to all its transfers
+            bucket.bytesPerSecond = rate;
+            buckets.add(bucket);
+        }
+
+        return buckets.isEmpty() ? UNLIMITED : new Bandwidth(List.copyOf(buckets));
+    }
+
+    private static long positive(String name, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("`" + name + "` must be positive, got " + value);
+        }
+
+        return value;
+    }
+
+    public boolean isUnlimited() {
+        return buckets.isEmpty();
+    }
+
+    /**
+     * Waits until `bytes` fit in every limit.
+     */
+    void acquire(int bytes) throws InterruptedIOException {
+        long now = System.nanoTime();
+        long wait = 0;
+        for (Bucket bucket : buckets) {
+            wait = Math.max(wait, bucket.reserve(bytes, now));
+        }
+
+        long deadline = now + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException("Interrupted while waiting for bandwidth");
+            }
+        }
+    }
+
+    public InputStream wrap(InputStream in) {
+        if (this.isUnlimited()) {
+            return in;
+        }
+
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int read = super.read();
+                if (read >= 0) {
+                    acquire(1);
+                }
+
+                return read;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, Math.min(len, chunkSize));
+                if (read > 0) {
+                    acquire(read);
+                }
+
+                return read;
+            }
+        };
+    }
+
+    public OutputStream wrap(OutputStream out) {
+        if (this.isUnlimited()) {
+            return out;
+        }
+
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                acquire(1);
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                for (int written = 0; written < len; ) {
+                    int chunk = Math.min(len - written, chunkSize);
+                    acquire(chunk);
+                    out.write(b, off + written, chunk);
+                    written += chunk;
+                }
+            }
+        };
+    }
+
+    private static final class Bucket {
+        private volatile long bytesPerSecond;
+        private long nextFreeNanos = System.nanoTime();
+
+        private Bucket(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        /**
+         * Reserves `bytes` after the bytes already reserved.
+         *
+         * @return the nanoseconds to wait before the reservation is within the limit
+         */
+        private synchronized long reserve(int bytes, long now) {
+            // capacity left unused while idle is only kept for the burst window
+            long start = Math.max(nextFreeNanos, now - BURST_NANOS);
+            nextFreeNanos = start + bytes * 1_000_000_000L / bytesPerSecond;
+
+            return nextFreeNanos - now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.kestra.plugin.fs.vfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copy buffers shared by all the transfers of a worker, instead of a small buffer allocated for each copy. Large
+ * buffers mean fewer and larger reads and writes on the connections, and reusing them keeps the transfers from
+ * churning the heap.
+ * <p>
+ * The size of the buffers is set with the `kestra.plugins.fs.buffer-size` system property, 256 KiB by default. At
+ * most {@link #MAX_IDLE} buffers are kept between transfers, more are allocated when more copies run at once.
+ */
+public final class BufferPool {
+    public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+    static final int MAX_IDLE = 64;
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+
+    private static final int BUFFER_SIZE = Math.max(MIN_BUFFER_SIZE, Integer.getInteger("kestra.plugins.fs.buffer-size", DEFAULT_BUFFER_SIZE));
+    private static final Queue<byte[]> IDLE = new ArrayBlockingQueue<>(MAX_IDLE);
+    private static final AtomicLong ALLOCATIONS = new AtomicLong();
+
+    private BufferPool() {
+    }
+
+    /**
+     * A buffer of the pool, given back on close.
+     */
+    public static final class Buffer implements AutoCloseable {
+        private byte[] bytes;
+
+        private Buffer(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public byte[] bytes() {
+            if (bytes == null) {
+                throw new IllegalStateException("The buffer was given back to the pool");
+            }
+
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            if (bytes != null) {
+                // when the pool is full, the buffer is left to the garbage collector
+                IDLE.offer(bytes);
+                bytes = null;
+            }
+        }
+    }
+
+    public static Buffer acquire() {
+        byte[] bytes = IDLE.poll();
+        if (bytes == null) {
+            ALLOCATIONS.incrementAndGet();
+            bytes = new byte[BUFFER_SIZE];
+        }
+
+        return new Buffer(bytes);
+    }
+
+    /**
+     * Copies the rest of the input to the output, without closing either of them.
+     *
+     * @return the number of bytes copied
+     */
+    public static long copy(InputStream in, OutputStream out) throws IOException {
+        try (Buffer buffer = acquire()) {
+            byte[] bytes = buffer.bytes();
+            long copied = 0;
+            int read;
+            while ((read = in.read(bytes)) != -1) {
+                out.write(bytes, 0, read);
+                copied += read;
+            }
+
+            return copied;
+        }
+    }
+
+    /**
+     * Same as {@link Files#copy(InputStream, Path, CopyOption...)}, with a pooled buffer.
+     */
+    public static long copy(InputStream in, Path target, CopyOption... options) throws IOException {
+        if (Arrays.asList(options).contains(StandardCopyOption.REPLACE_EXISTING)) {
+            Files.deleteIfExists(target);
+        }
+
+        try (OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            return copy(in, out);
+        }
+    }
+
+    public static int bufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    /**
+     * Number of buffers allocated since the worker started, e.g. to check in benchmarks that transfers reuse them.
+     */
+    public static long allocations() {
+        return ALLOCATIONS.get();
+    }
+}
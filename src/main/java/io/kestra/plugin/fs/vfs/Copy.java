@@ -0,0 +1,94 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+
+import java.net.URI;
+import io.kestra.core.models.annotations.PluginProperty;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class Copy extends AbstractVfsTask implements RunnableTask<Copy.Output> {
+    @Schema(
+        title = "Source file or directory URI"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @Schema(
+        title = "Destination URI",
+        description = "Full target path. If it ends with `/`, the source name is kept. Existing targets are replaced when `overwrite` is true."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> to;
+
+    @Schema(
+        title = "Overwrite existing files",
+        description = "If false (default), fails when the destination already exists."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> overwrite = Property.ofValue(false);
+
+    public Output run(RunContext runContext) throws Exception {
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
+            fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
+            fsm.init();
+
+            return VfsService.copy(
+                runContext,
+                fsm,
+                this.fsOptions(runContext),
+                this.uri(runContext, runContext.render(this.from).as(String.class).orElseThrow()),
+                this.uri(runContext, runContext.render(this.to).as(String.class).orElseThrow()),
+                runContext.render(this.overwrite).as(Boolean.class).orElseThrow(),
+                (from, to) -> this.copyOnServer(runContext, from, to, lease.sessions())
+            );
+        }
+    }
+
+    /**
+     * Copies `from` to `to` without transferring the content through the worker, when the protocol allows it.
+     * The destination parent exists and any previous destination was removed when this is called.
+     *
+     * @param sessions the sessions to the server granted to the task, the Commons VFS one, open during the call, included
+     * @return false when the copy wasn't done, so that the content is relayed from the source to the destination
+     */
+    protected boolean copyOnServer(RunContext runContext, URI from, URI to, int sessions) throws Exception {
+        return false;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(
+            title = "The from uri"
+        )
+        private final URI from;
+
+        @Schema(
+            title = "The destination uri"
+        )
+        private final URI to;
+
+        @Schema(
+            title = "Whether the copy was done by the server",
+            description = "False when the content was relayed from the source to the destination through the worker."
+        )
+        private final Boolean serverSide;
+    }
+}
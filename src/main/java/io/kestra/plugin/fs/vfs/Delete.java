@@ -51,7 +51,10 @@ public abstract class Delete extends AbstractVfsTask implements RunnableTask<Del
     private Property<String> regExp;
 
     public Output run(RunContext runContext) throws Exception {
-        try (var fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            var lease = this.hostSession(runContext);
+            var fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
@@ -42,33 +42,106 @@ public abstract class Download extends AbstractVfsTask implements RunnableTask<D
 
     @Schema(
         title = "Checksum algorithm to use",
-        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`."
+        description = "Defaults to `SHA_256`. The computed checksum is always exposed on the output as `checksum`. `MD5` and `SHA_1` are deprecated and considered weak; prefer `SHA_256` or `SHA_512`. `CRC32C` and `XXHASH64` are much faster on large files but only detect accidental corruption."
     )
     @Builder.Default
     @PluginProperty(group = "advanced")
     protected Property<ChecksumService.Algorithm> checksumAlgorithm = Property.ofValue(ChecksumService.Algorithm.SHA_256);
 
-    public Output run(RunContext runContext) throws Exception {
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
-            fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
-            fsm.init();
+    @Schema(
+        title = "Number of times an interrupted download is resumed",
+        description = "When the connection fails during the transfer, the download reconnects and continues from the bytes already received instead of starting over. " +
+            "The checksum is computed on the complete file afterwards. Resuming happens within a task attempt: a task retry starts from scratch. Set to 0 to disable."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> resumeAttempts = Property.ofValue(VfsDownloadRequest.DEFAULT_RESUME_ATTEMPTS);
+
+    @Schema(
+        title = "Compute the checksum on the server",
+        description = "Asks the server for the checksum of the file before downloading it: SFTP runs `md5sum`, `sha1sum`, `sha256sum` or `sha512sum` over an SSH exec channel, " +
+            "FTP and FTPS use the `HASH` command or its `XMD5`, `XSHA1`, `XSHA256` and `XSHA512` predecessors. " +
+            "With `validateChecksum`, a mismatch fails the task without transferring the file, and the downloaded copy is verified against the server checksum. " +
+            "When the server can't compute it, the checksum is computed after the download as usual. Not available with `CRC32C` and `XXHASH64`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> remoteChecksum = Property.ofValue(false);
+
+    @Schema(
+        title = "Checksum of the previously downloaded version",
+        description = "With `remoteChecksum`, the download is skipped when the server checksum equals this value, typically the `checksum` output of a previous execution. " +
+            "The output then has `skipped: true` and no `to`."
+    )
+    @PluginProperty(group = "advanced")
+    protected Property<String> previousChecksum;
 
+    public Output run(RunContext runContext) throws Exception {
+        try (HostSessions.Lease lease = this.hostSession(runContext)) {
+            URI from = this.uri(runContext, runContext.render(this.from).as(String.class).orElseThrow());
             boolean rValidateChecksum = runContext.render(this.validateChecksum).as(Boolean.class).orElse(false);
             String rChecksumExpected = runContext.render(this.checksumExpected).as(String.class).orElse(null);
             ChecksumService.Algorithm rChecksumAlgorithm = runContext.render(this.checksumAlgorithm).as(ChecksumService.Algorithm.class).orElse(ChecksumService.Algorithm.SHA_256);
 
-            return VfsService.download(new VfsDownloadRequest(
+            if (runContext.render(this.remoteChecksum).as(Boolean.class).orElse(false)) {
+                String checksum = this.remoteChecksum(runContext, from, rChecksumAlgorithm);
+
+                if (checksum == null) {
+                    runContext.logger().warn("The server can't compute the checksum of '{}', it is computed after the download instead", VfsService.uriWithoutAuth(from));
+                } else {
+                    if (rValidateChecksum) {
+                        // fail before transferring anything
+                        ChecksumService.verify(VfsService.uriWithoutAuth(from).toString(), checksum, rChecksumAlgorithm, rChecksumExpected);
+                    }
+
+                    String rPreviousChecksum = runContext.render(this.previousChecksum).as(String.class).orElse(null);
+                    if (rPreviousChecksum != null && rPreviousChecksum.trim().equalsIgnoreCase(checksum)) {
+                        runContext.logger().info("File '{}' is unchanged since the previous download, skipping it", VfsService.uriWithoutAuth(from));
+
+                        return Output.builder()
+                            .from(VfsService.uriWithoutAuth(from))
+                            .checksum(checksum)
+                            .skipped(true)
+                            .build();
+                    }
+
+                    // the local copy must then be identical to what the server hashed
+                    rValidateChecksum = true;
+                    rChecksumExpected = checksum;
+                }
+            }
+
+            return this.download(runContext, new VfsDownloadRequest(
                 runContext,
-                fsm,
-                this.fsOptions(runContext),
-                this.uri(runContext, runContext.render(this.from).as(String.class).orElseThrow()),
+                null,
+                null,
+                from,
                 rValidateChecksum,
                 rChecksumExpected,
-                rChecksumAlgorithm
+                rChecksumAlgorithm,
+                runContext.render(this.resumeAttempts).as(Integer.class).orElse(VfsDownloadRequest.DEFAULT_RESUME_ATTEMPTS),
+                this.bandwidth(runContext),
+                lease.sessions()
             ));
         }
     }
 
+    /**
+     * Downloads the file of the request, whose file system manager and options are set here.
+     */
+    protected Output download(RunContext runContext, VfsDownloadRequest request) throws Exception {
+        try (StandardFileSystemManager fsm = VfsService.fileSystemManager(runContext)) {
+            return VfsService.download(request.withFileSystem(fsm, this.fsOptions(runContext)));
+        }
+    }
+
+    /**
+     * Checksum of the remote file computed by the server, null when the protocol or the server doesn't support it.
+     */
+    protected String remoteChecksum(RunContext runContext, URI from, ChecksumService.Algorithm algorithm) throws Exception {
+        return null;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -87,5 +160,12 @@ public abstract class Download extends AbstractVfsTask implements RunnableTask<D
             description = "Hex-encoded digest computed with `checksumAlgorithm`. Populated whenever the file is downloaded successfully."
         )
         private String checksum;
+
+        @Schema(
+            title = "Whether the download was skipped",
+            description = "True when the checksum computed by the server matches `previousChecksum`. `to` is then not set."
+        )
+        @Builder.Default
+        private Boolean skipped = false;
     }
 }
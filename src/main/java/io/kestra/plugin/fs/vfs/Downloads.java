@@ -14,10 +14,10 @@ import org.slf4j.Logger;
 
 import java.net.URI;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static io.kestra.core.utils.Rethrow.throwFunction;
 import io.kestra.core.models.annotations.PluginProperty;
 
 @SuperBuilder
@@ -67,7 +67,10 @@ public abstract class Downloads extends AbstractVfsTask implements RunnableTask<
     public Output run(RunContext runContext) throws Exception {
         Logger logger = runContext.logger();
 
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
@@ -77,11 +80,11 @@ public abstract class Downloads extends AbstractVfsTask implements RunnableTask<
             // connection options
             FileSystemOptions fileSystemOptions = this.fsOptions(runContext);
 
-            List.Output run = VfsService.list(
+            List.Output run = this.list(
                 runContext,
                 fsm,
                 fileSystemOptions,
-                this.uri(runContext, runContext.render(this.from).as(String.class).orElseThrow()),
+                from,
                 runContext.render(this.regExp).as(String.class).orElse(null),
                 runContext.render(this.recursive).as(Boolean.class).orElse(false)
             );
@@ -98,29 +101,33 @@ public abstract class Downloads extends AbstractVfsTask implements RunnableTask<
                 files = files.subList(0, rMaxFiles);
             }
 
-            java.util.List<io.kestra.plugin.fs.vfs.models.File> list = files
-                .stream()
-                .map(throwFunction(file -> {
-                    Download.Output download = VfsService.download(VfsDownloadRequest.of(
+            Bandwidth bandwidth = this.bandwidth(runContext);
+            java.util.List<VfsDownloadRequest> requests = new ArrayList<>();
+            for (io.kestra.plugin.fs.vfs.models.File file : files) {
+                requests.add(VfsDownloadRequest.of(
+                    runContext,
+                    fsm,
+                    fileSystemOptions,
+                    VfsService.uri(
                         runContext,
-                        fsm,
-                        fileSystemOptions,
-                        VfsService.uri(
-                            runContext,
-                            this.scheme(),
-                            runContext.render(this.host).as(String.class).orElse(null),
-                            runContext.render(this.getPort()).as(String.class).orElse(null),
-                            runContext.render(this.username).as(String.class).orElse(null),
-                            runContext.render(this.password).as(String.class).orElse(null),
-                            file.getServerPath().getPath()
-                        )
-                    ));
-
-                    logger.debug("File '{}' download to '{}'", from.getPath(), download.getTo());
-
-                    return file.withPath(download.getTo());
-                }))
-                .toList();
+                        this.scheme(),
+                        runContext.render(this.host).as(String.class).orElse(null),
+                        runContext.render(this.getPort()).as(String.class).orElse(null),
+                        runContext.render(this.username).as(String.class).orElse(null),
+                        runContext.render(this.password).as(String.class).orElse(null),
+                        file.getServerPath().getPath()
+                    )
+                ).withBandwidth(bandwidth).withSessions(lease.sessions()));
+            }
+
+            java.util.List<Download.Output> downloads = this.download(runContext, requests);
+
+            java.util.List<io.kestra.plugin.fs.vfs.models.File> list = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                logger.debug("File '{}' download to '{}'", from.getPath(), downloads.get(i).getTo());
+
+                list.add(files.get(i).withPath(downloads.get(i).getTo()));
+            }
 
             Map<String, URI> outputFiles = list.stream()
                 .filter(file -> file.getFileType() != FileType.FOLDER)
@@ -146,6 +153,34 @@ public abstract class Downloads extends AbstractVfsTask implements RunnableTask<
         }
     }
 
+    /**
+     * Downloads the files, one at a time through Commons VFS unless the protocol has a faster way.
+     *
+     * @return the outputs, in the order of the requests
+     */
+    protected java.util.List<Download.Output> download(RunContext runContext, java.util.List<VfsDownloadRequest> requests) throws Exception {
+        java.util.List<Download.Output> outputs = new ArrayList<>();
+        for (VfsDownloadRequest request : requests) {
+            outputs.add(VfsService.download(request));
+        }
+
+        return outputs;
+    }
+
+    /**
+     * Lists the files to download, through Commons VFS unless the protocol has a faster way.
+     */
+    protected List.Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        return VfsService.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
+
     public enum Action {
         MOVE,
         DELETE,
@@ -0,0 +1,113 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.runners.RunContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sessions opened to each server by all the tasks and triggers of a worker, bounded by `maxSessionsPerHost`. Servers
+ * refuse connections above their own limit (e.g. `MaxStartups` for SSH, `max_clients` for vsftpd), and every refused
+ * task fails and retries, so tasks above the limit wait their turn here instead, in arrival order.
+ * <p>
+ * Servers are identified by host and port, so that SFTP tasks and SSH commands to the same server share a limit.
+ * The last limit configured for a server applies to all its tasks.
+ */
+public final class HostSessions {
+    private static final Map<String, Limit> LIMITS = new ConcurrentHashMap<>();
+
+    private HostSessions() {
+    }
+
+    /**
+     * Session slots, released on close.
+     */
+    public static final class Lease implements AutoCloseable {
+        private final Semaphore limit;
+        private final int sessions;
+        private boolean closed;
+
+        private Lease(Semaphore limit, int sessions) {
+            this.limit = limit;
+            this.sessions = sessions;
+        }
+
+        /**
+         * Number of sessions the task may open at once: the sessions it asked for, capped to the limit of the server.
+         */
+        public int sessions() {
+            return sessions;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed && limit != null) {
+                limit.release(sessions);
+            }
+            closed = true;
+        }
+    }
+
+    public static Lease acquire(RunContext runContext, AbstractVfsInterface server, int sessions) throws IllegalVariableEvaluationException, InterruptedException {
+        return acquire(
+            runContext,
+            runContext.render(server.getHost()).as(String.class).orElseThrow(),
+            runContext.render(server.getPort()).as(String.class).orElse(null),
+            runContext.render(server.getMaxSessionsPerHost()).as(Integer.class).orElse(null),
+            sessions
+        );
+    }
+
+    /**
+     * Waits until `sessions` slots to the server are free, all of them being taken at once so that tasks holding part
+     * of their slots never wait on each other. A task needing more slots than the limit gets the whole limit, and must
+     * open no more sessions than {@link Lease#sessions()}.
+     *
+     * @param maxSessions the limit for the server, null for no limit
+     */
+    public static Lease acquire(RunContext runContext, String host, String port, Integer maxSessions, int sessions) throws InterruptedException {
+        if (maxSessions == null) {
+            return new Lease(null, Math.max(1, sessions));
+        }
+
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("`maxSessionsPerHost` must be at least 1, got " + maxSessions);
+        }
+
+        String key = port == null ? host : host + ":" + port;
+        Limit limit = LIMITS.computeIfAbsent(key, k -> new Limit(maxSessions));
+        limit.resize(maxSessions);
+
+        int permits = Math.max(1, Math.min(sessions, maxSessions));
+        // unlike tryAcquire(permits), a timed tryAcquire doesn't barge ahead of the tasks already waiting
+        if (!limit.tryAcquire(permits, 0, TimeUnit.SECONDS)) {
+            runContext.logger().info("The {} sessions to '{}' are in use or awaited by other tasks, waiting for {} of them", maxSessions, key, permits);
+            limit.acquire(permits);
+        }
+
+        return new Lease(limit, permits);
+    }
+
+    private static final class Limit extends Semaphore {
+        private int max;
+
+        private Limit(int max) {
+            super(max, true);
+            this.max = max;
+        }
+
+        private synchronized void resize(int max) {
+            if (max > this.max) {
+                this.release(max - this.max);
+            } else if (max < this.max) {
+                // sessions in use above the new limit are left to complete, the permits go negative until they do
+                this.reducePermits(this.max - max);
+            }
+
+            this.max = max;
+        }
+    }
+}
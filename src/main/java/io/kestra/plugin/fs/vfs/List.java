@@ -1,5 +1,6 @@
 package io.kestra.plugin.fs.vfs;
 
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
@@ -8,9 +9,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 import io.kestra.core.models.annotations.PluginProperty;
 
+import java.net.URI;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.function.Function;
@@ -58,11 +61,14 @@ public abstract class List extends AbstractVfsTask implements RunnableTask<List.
     private Property<Sort> sort = Property.ofValue(Sort.NONE);
 
     public Output run(RunContext runContext) throws Exception {
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
-            Output output = VfsService.list(
+            Output output = this.list(
                 runContext,
                 fsm,
                 this.fsOptions(runContext),
@@ -71,24 +77,43 @@ public abstract class List extends AbstractVfsTask implements RunnableTask<List.
                 runContext.render(this.recursive).as(Boolean.class).orElse(false)
             );
 
-            java.util.List<File> files = output.getFiles();
+            return this.sortAndLimit(runContext, output.getFiles());
+        }
+    }
 
-            Sort rSort = runContext.render(this.sort).as(Sort.class).orElse(Sort.NONE);
-            Comparator<File> comparator = comparator(rSort, File::getUpdatedDate, File::getName);
-            if (comparator != null) {
-                files = files.stream().sorted(comparator).toList();
-            }
+    /**
+     * Lists the files, through Commons VFS unless the protocol has a faster way.
+     */
+    protected Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        return VfsService.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
 
-            int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
-            if (files.size() > rMaxFiles) {
-                runContext.logger().warn("Too many files to process ({}), limiting to {}", files.size(), rMaxFiles);
-                files = files.subList(0, rMaxFiles);
-            }
+    /**
+     * Applies `sort` then `maxFiles` to the listed files.
+     */
+    protected Output sortAndLimit(RunContext runContext, java.util.List<File> files) throws IllegalVariableEvaluationException {
+        Sort rSort = runContext.render(this.sort).as(Sort.class).orElse(Sort.NONE);
+        Comparator<File> comparator = comparator(rSort, File::getUpdatedDate, File::getName);
+        if (comparator != null) {
+            files = files.stream().sorted(comparator).toList();
+        }
 
-            return Output.builder()
-                .files(files)
-                .build();
+        int rMaxFiles = runContext.render(this.maxFiles).as(Integer.class).orElse(25);
+        if (files.size() > rMaxFiles) {
+            runContext.logger().warn("Too many files to process ({}), limiting to {}", files.size(), rMaxFiles);
+            files = files.subList(0, rMaxFiles);
         }
+
+        return Output.builder()
+            .files(files)
+            .build();
     }
 
     // Shared by every provider's List task/Trigger (local, nfs, smb, vfs) so the sort logic is defined once.
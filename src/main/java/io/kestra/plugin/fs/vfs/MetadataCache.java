@@ -0,0 +1,91 @@
+package io.kestra.plugin.fs.vfs;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.FileSystemException;
+import org.apache.commons.vfs2.FileType;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remote metadata known for the duration of a single task run, so that batch operations don't stat
+ * the same directory again for every file. Entries are keyed by remote path and kept up to date by
+ * the operations writing through this cache; changes made by other clients during the run are not seen.
+ */
+public class MetadataCache {
+    private final Set<String> folders = ConcurrentHashMap.newKeySet();
+    private final Map<String, Map<String, FileType>> listings = new ConcurrentHashMap<>();
+
+    public boolean isKnownFolder(String path) {
+        return folders.contains(normalize(path));
+    }
+
+    public void addFolder(String path) {
+        folders.add(normalize(path));
+    }
+
+    /**
+     * Type of a remote file, answered from a single listing of its parent directory shared by all its siblings.
+     */
+    public FileType type(FileObject file) throws FileSystemException {
+        FileObject parent = file.getParent();
+        if (parent == null) {
+            return file.getType();
+        }
+
+        String parentPath = normalize(parent.getName().getPath());
+        Map<String, FileType> children = listings.get(parentPath);
+        if (children == null) {
+            children = new ConcurrentHashMap<>();
+            if (parent.exists()) {
+                addFolder(parentPath);
+                // providers fill the children's attributes from the listing itself, without one stat per child
+                for (FileObject child : parent.getChildren()) {
+                    children.put(child.getName().getBaseName(), child.getType());
+                }
+            }
+            listings.put(parentPath, children);
+        }
+
+        return children.getOrDefault(file.getName().getBaseName(), FileType.IMAGINARY);
+    }
+
+    public void written(String path, FileType type) {
+        String normalized = normalize(path);
+        String parentPath = parent(normalized);
+
+        addFolder(parentPath);
+        if (type == FileType.FOLDER) {
+            addFolder(normalized);
+        }
+
+        Map<String, FileType> children = listings.get(parentPath);
+        if (children != null) {
+            children.put(FilenameUtils.getName(normalized), type);
+        }
+    }
+
+    public void removed(String path) {
+        String normalized = normalize(path);
+
+        folders.remove(normalized);
+        listings.remove(normalized);
+
+        Map<String, FileType> children = listings.get(parent(normalized));
+        if (children != null) {
+            children.remove(FilenameUtils.getName(normalized));
+        }
+    }
+
+    private static String parent(String normalized) {
+        int index = normalized.lastIndexOf('/');
+        return index <= 0 ? "/" : normalized.substring(0, index);
+    }
+
+    private static String normalize(String path) {
+        return "/" + StringUtils.strip(path, "/");
+    }
+}
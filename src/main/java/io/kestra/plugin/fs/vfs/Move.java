@@ -42,7 +42,10 @@ public abstract class Move extends AbstractVfsTask implements RunnableTask<Move.
     protected Property<Boolean> overwrite = Property.ofValue(false);
 
     public Output run(RunContext runContext) throws Exception {
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
@@ -0,0 +1,71 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+@Getter
+@Builder
+@Jacksonized
+public class Shard {
+    @Schema(
+        title = "Zero-based index of this shard",
+        description = "Must be lower than `count`."
+    )
+    @NotNull
+    private Property<Integer> index;
+
+    @Schema(
+        title = "Total number of shards sharing the watched directory"
+    )
+    @NotNull
+    private Property<Integer> count;
+
+    public Assignment render(RunContext runContext) throws IllegalVariableEvaluationException {
+        int rIndex = runContext.render(this.index).as(Integer.class).orElseThrow();
+        int rCount = runContext.render(this.count).as(Integer.class).orElseThrow();
+
+        return Assignment.of(rIndex, rCount);
+    }
+
+    /**
+     * Rendered shard, deciding which paths belong to this trigger instance.
+     */
+    public record Assignment(int index, int count) {
+        public static Assignment of(int index, int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Shard `count` must be at least 1, got " + count);
+            }
+            if (index < 0 || index >= count) {
+                throw new IllegalArgumentException("Shard `index` must be between 0 and " + (count - 1) + ", got " + index);
+            }
+
+            return new Assignment(index, count);
+        }
+
+        public boolean owns(String path) {
+            return shardOf(path, count) == index;
+        }
+
+        // each shard keeps its own state so that instances never overwrite each other's entries
+        public String stateKey(String stateKey) {
+            return stateKey + "_shard_" + index + "_of_" + count;
+        }
+
+        // CRC32 is stable across JVMs and releases, unlike String.hashCode() which is only stable by convention
+        static int shardOf(String path, int count) {
+            CRC32 crc = new CRC32();
+            crc.update(path.getBytes(StandardCharsets.UTF_8));
+
+            return (int) (crc.getValue() % count);
+        }
+    }
+}
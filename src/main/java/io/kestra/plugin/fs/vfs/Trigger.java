@@ -51,6 +51,24 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
     @PluginProperty(secret = true, group = "connection")
     protected Property<String> password;
 
+    @Schema(
+        title = "Maximum concurrent sessions to the server from this worker"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Integer> maxSessionsPerHost;
+
+    @Schema(
+        title = "Maximum bandwidth of the task in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidth;
+
+    @Schema(
+        title = "Maximum bandwidth to the server from this worker in bytes per second"
+    )
+    @PluginProperty(group = "connection")
+    protected Property<Long> maxBandwidthPerHost;
+
     @Schema(title = "Directory URI to watch")
     @NotNull
     @PluginProperty(group = "main")
@@ -99,6 +117,13 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
     @PluginProperty(group = "processing")
     private Property<List.Sort> sort = Property.ofValue(List.Sort.NONE);
 
+    @Schema(
+        title = "Shard of the watched directory handled by this trigger",
+        description = "Splits polling of a large directory across several triggers: each one only considers the paths whose stable hash falls in its `index` out of `count`, and keeps its own state."
+    )
+    @PluginProperty(group = "advanced")
+    private Shard shard;
+
     static class PendingFile {
         final File file;
         final Entry candidate;
@@ -115,6 +140,41 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
 
     protected abstract String scheme();
 
+    /**
+     * Sessions the trigger opens at once to the server, counted against `maxSessionsPerHost`.
+     */
+    protected int sessions(RunContext runContext) throws IllegalVariableEvaluationException {
+        return 1;
+    }
+
+    /**
+     * Lists the watched files, through Commons VFS unless the protocol has a faster way.
+     */
+    protected List.Output list(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        String regExp,
+        boolean recursive
+    ) throws Exception {
+        return VfsService.list(runContext, fsm, fileSystemOptions, from, regExp, recursive);
+    }
+
+    /**
+     * Downloads the files that fire the trigger, one at a time through Commons VFS unless the protocol has a faster way.
+     *
+     * @return the outputs, in the order of the requests
+     */
+    protected java.util.List<Download.Output> download(RunContext runContext, java.util.List<VfsDownloadRequest> requests) throws Exception {
+        java.util.List<Download.Output> outputs = new ArrayList<>();
+        for (VfsDownloadRequest request : requests) {
+            outputs.add(VfsService.download(request));
+        }
+
+        return outputs;
+    }
+
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
@@ -141,9 +201,13 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
         var eligibleStates = java.util.List.of(Downloads.Action.DELETE, Downloads.Action.MOVE);
         var shouldRemoveFiles = eligibleStates.contains(rAction);
         var stateful = !shouldRemoveFiles;   // NONE keeps files in place, so dedup relies on persisted state
+        var rShard = this.shard != null ? this.shard.render(runContext) : null;
         var rStateKey = runContext.render(stateKey)
             .as(String.class)
             .orElse(StatefulTriggerService.defaultKey(context.getNamespace(), context.getFlowId(), id));
+        if (rShard != null) {
+            rStateKey = rShard.stateKey(rStateKey);
+        }
         var rStateTtl = runContext.render(stateTtl).as(Duration.class);
 
         // enable disabled by default weak RSA/SHA1 algorithm
@@ -153,13 +217,16 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
             session.setConfig("PubkeyAcceptedAlgorithms", session.getConfig("PubkeyAcceptedAlgorithms") + ",ssh-rsa");
         }
 
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            HostSessions.Lease lease = HostSessions.acquire(runContext, this, this.sessions(runContext));
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
             List.Output run;
             try {
-                run = VfsService.list(
+                run = this.list(
                     runContext,
                     fsm,
                     fileSystemOptions,
@@ -179,6 +246,7 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
             java.util.List<File> files = run.getFiles()
                 .stream()
                 .filter(file -> file.getFileType() == FileType.FILE)
+                .filter(file -> rShard == null || rShard.owns(file.getServerPath().getPath()))
                 .toList();
 
             Map<String, Entry> state = stateful ? readState(runContext, rStateKey, rStateTtl) : new HashMap<>();
@@ -237,8 +305,10 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
             java.util.List<TriggeredFile> toFire = new ArrayList<>();
 
             // 1) Download first, do NOT update state yet.
+            Bandwidth bandwidth = Bandwidth.of(runContext, this);
+            java.util.List<VfsDownloadRequest> requests = new ArrayList<>();
             for (PendingFile pending : limitedPending) {
-                Download.Output download = VfsService.download(VfsDownloadRequest.of(
+                requests.add(VfsDownloadRequest.of(
                     runContext,
                     fsm,
                     fileSystemOptions,
@@ -251,7 +321,13 @@ public abstract class Trigger extends AbstractTrigger implements PollingTriggerI
                         runContext.render(this.password).as(String.class).orElse(null),
                         pending.file.getServerPath().getPath()
                     )
-                ));
+                ).withBandwidth(bandwidth).withSessions(lease.sessions()));
+            }
+
+            java.util.List<Download.Output> downloads = this.download(runContext, requests);
+            for (int i = 0; i < limitedPending.size(); i++) {
+                PendingFile pending = limitedPending.get(i);
+                Download.Output download = downloads.get(i);
 
                 logger.debug("File '{}' download to '{}'", from.getPath(), download.getTo());
 
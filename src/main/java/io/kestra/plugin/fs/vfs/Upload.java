@@ -40,27 +40,104 @@ public abstract class Upload extends AbstractVfsTask implements RunnableTask<Upl
     @PluginProperty(group = "advanced")
     private Property<Boolean> overwrite = Property.ofValue(true);
 
-    public Upload.Output run(RunContext runContext) throws Exception {
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
-            fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
-            fsm.init();
+    @Schema(
+        title = "Resume a previous interrupted upload",
+        description = "When the remote file is smaller than the source and its last block matches the same bytes of the source, only the missing bytes are appended. " +
+            "Otherwise the file is rewritten. Since an existing remote file is reused, combine with `overwrite: true` or `atomicRename: true`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> resume = Property.ofValue(false);
+
+    @Schema(
+        title = "Write to a temporary file renamed once complete",
+        description = "The content is written to the destination path suffixed with `.part`, then renamed, so readers never see a partial file."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> atomicRename = Property.ofValue(false);
 
+    @Schema(
+        title = "Checksum algorithm",
+        description = "Algorithm of the checksum of the uploaded content exposed on the output. Defaults to `SHA_256`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<ChecksumService.Algorithm> checksumAlgorithm = Property.ofValue(ChecksumService.Algorithm.SHA_256);
+
+    @Schema(
+        title = "Verify the upload with a checksum computed by the server",
+        description = "Once uploaded, asks the server for the checksum of the remote file and fails the task when it differs from the `checksum` output: " +
+            "SFTP runs `md5sum`, `sha1sum`, `sha256sum` or `sha512sum` over an SSH exec channel, FTP and FTPS use the `HASH` command or its `XMD5`, `XSHA1`, `XSHA256` and `XSHA512` predecessors. " +
+            "The uploaded content isn't read back. When the server can't compute it, a warning is logged. Not available with `CRC32C` and `XXHASH64`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> remoteChecksum = Property.ofValue(false);
+
+    public Upload.Output run(RunContext runContext) throws Exception {
+        try (HostSessions.Lease lease = this.hostSession(runContext)) {
             var renderedFrom = runContext.render(this.from).as(String.class).orElseThrow();
             if (!renderedFrom.startsWith("kestra://")) {
                 throw new IllegalArgumentException("'from' must be a Kestra's internal storage URI");
             }
             var renderedTo = runContext.render(this.to).as(String.class).orElse(renderedFrom.substring(renderedFrom.lastIndexOf('/')));
-            return VfsService.upload(
-                runContext,
-                fsm,
-                this.fsOptions(runContext),
-                URI.create(renderedFrom),
-                this.uri(runContext, renderedTo),
-                runContext.render(this.overwrite).as(Boolean.class).orElseThrow()
-            );
+            URI to = this.uri(runContext, renderedTo);
+            ChecksumService.Algorithm rChecksumAlgorithm = runContext.render(this.checksumAlgorithm).as(ChecksumService.Algorithm.class).orElse(ChecksumService.Algorithm.SHA_256);
+
+            Output output;
+            try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+                fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
+                fsm.init();
+
+                output = VfsService.upload(new VfsUploadRequest(
+                    runContext,
+                    fsm,
+                    this.fsOptions(runContext),
+                    URI.create(renderedFrom),
+                    to,
+                    runContext.render(this.overwrite).as(Boolean.class).orElseThrow(),
+                    null,
+                    runContext.render(this.resume).as(Boolean.class).orElse(false),
+                    runContext.render(this.atomicRename).as(Boolean.class).orElse(false),
+                    rChecksumAlgorithm,
+                    this.writer(runContext, lease.sessions()),
+                    this.bandwidth(runContext),
+                    lease.sessions()
+                ));
+            }
+
+            // asked once the Commons VFS session is closed, so that the checksum session doesn't come on top of it
+            if (runContext.render(this.remoteChecksum).as(Boolean.class).orElse(false)) {
+                String checksum = this.remoteChecksum(runContext, to, rChecksumAlgorithm);
+
+                if (checksum == null) {
+                    runContext.logger().warn("The server can't compute the checksum of '{}', the upload isn't verified", output.getTo());
+                } else {
+                    ChecksumService.verify(output.getTo().toString(), checksum, rChecksumAlgorithm, output.getChecksum());
+                }
+            }
+
+            return output;
         }
     }
 
+    /**
+     * Writer used instead of a single VFS stream when the protocol has a faster way to write the file, null by default.
+     *
+     * @param sessions the sessions to the server granted to the task, the VFS one included
+     */
+    protected VfsUploadRequest.Writer writer(RunContext runContext, int sessions) throws Exception {
+        return null;
+    }
+
+    /**
+     * Checksum of the remote file computed by the server, null when the protocol or the server doesn't support it.
+     */
+    protected String remoteChecksum(RunContext runContext, URI to, ChecksumService.Algorithm algorithm) throws Exception {
+        return null;
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -73,5 +150,11 @@ public abstract class Upload extends AbstractVfsTask implements RunnableTask<Upl
             title = "The fully-qualified URIs that point to destination path"
         )
         private URI to;
+
+        @Schema(
+            title = "Checksum of the uploaded content",
+            description = "Computed with `checksumAlgorithm` while reading the source from internal storage."
+        )
+        private String checksum;
     }
 }
@@ -11,10 +11,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.vfs2.FileSystemOptions;
 import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 
 import java.net.URI;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -71,7 +73,10 @@ public abstract class Uploads extends AbstractVfsTask implements RunnableTask<Up
     private Property<Boolean> overwrite = Property.ofValue(true);
 
     public Output run(RunContext runContext) throws Exception {
-        try (StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)) {
+        try (
+            HostSessions.Lease lease = this.hostSession(runContext);
+            StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext)
+        ) {
             fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
             fsm.init();
 
@@ -95,8 +100,11 @@ public abstract class Uploads extends AbstractVfsTask implements RunnableTask<Up
             }
 
             boolean rOverwrite = runContext.render(this.overwrite).as(Boolean.class).orElse(true);
+            FileSystemOptions fileSystemOptions = this.fsOptions(runContext);
+            MetadataCache cache = new MetadataCache();
+            Bandwidth bandwidth = this.bandwidth(runContext);
 
-            java.util.List<Upload.Output> outputs = fileMappings.stream().map(throwFunction(entry -> {
+            java.util.List<VfsUploadRequest> requests = fileMappings.stream().map(throwFunction(entry -> {
                 String destFileName = entry.getKey();
                 String fromURI = entry.getValue();
                 var rTo = runContext.render(this.to).as(String.class).orElseThrow();
@@ -110,16 +118,19 @@ public abstract class Uploads extends AbstractVfsTask implements RunnableTask<Up
                     destPath = rTo + fromURI.substring(fromURI.lastIndexOf('/') + (rTo.endsWith("/") ? 1 : 0));
                 }
 
-                return VfsService.upload(
+                return VfsUploadRequest.of(
                     runContext,
                     fsm,
-                    this.fsOptions(runContext),
+                    fileSystemOptions,
                     URI.create(fromURI),
                     this.uri(runContext, destPath),
-                    rOverwrite
-                );
+                    rOverwrite,
+                    cache
+                ).withBandwidth(bandwidth).withSessions(lease.sessions());
             })).toList();
 
+            java.util.List<Upload.Output> outputs = this.upload(runContext, requests);
+
             return Output.builder()
                 .files(outputs.stream()
                     .map(Upload.Output::getTo)
@@ -129,6 +140,20 @@ public abstract class Uploads extends AbstractVfsTask implements RunnableTask<Up
         }
     }
 
+    /**
+     * Uploads the files, one at a time through Commons VFS unless the protocol has a faster way.
+     *
+     * @return the outputs, in the order of the requests
+     */
+    protected java.util.List<Upload.Output> upload(RunContext runContext, java.util.List<VfsUploadRequest> requests) throws Exception {
+        java.util.List<Upload.Output> outputs = new ArrayList<>();
+        for (VfsUploadRequest request : requests) {
+            outputs.add(VfsService.upload(request));
+        }
+
+        return outputs;
+    }
+
     @SuppressWarnings("unchecked")
     private java.util.List<Map.Entry<String, String>> parseFromProperty(RunContext runContext) throws Exception {
         if (this.from instanceof Map<?, ?> fromMap) {
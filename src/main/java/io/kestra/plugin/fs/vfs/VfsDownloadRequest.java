@@ -13,12 +13,71 @@ public record VfsDownloadRequest(
     URI from,
     boolean validateChecksum,
     String checksumExpected,
-    ChecksumService.Algorithm checksumAlgorithm
+    ChecksumService.Algorithm checksumAlgorithm,
+    int resumeAttempts,
+    Bandwidth bandwidth,
+    int sessions
 ) {
+    public static final int DEFAULT_RESUME_ATTEMPTS = 3;
+
     public VfsDownloadRequest {
         if (checksumAlgorithm == null) {
             checksumAlgorithm = ChecksumService.Algorithm.SHA_256;
         }
+
+        if (bandwidth == null) {
+            bandwidth = Bandwidth.UNLIMITED;
+        }
+
+        // the sessions to the server granted to the task, see HostSessions
+        if (sessions < 1) {
+            sessions = 1;
+        }
+    }
+
+    public VfsDownloadRequest withFileSystem(StandardFileSystemManager fsm, FileSystemOptions fileSystemOptions) {
+        return new VfsDownloadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            validateChecksum,
+            checksumExpected,
+            checksumAlgorithm,
+            resumeAttempts,
+            bandwidth,
+            sessions
+        );
+    }
+
+    public VfsDownloadRequest withBandwidth(Bandwidth bandwidth) {
+        return new VfsDownloadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            validateChecksum,
+            checksumExpected,
+            checksumAlgorithm,
+            resumeAttempts,
+            bandwidth,
+            sessions
+        );
+    }
+
+    public VfsDownloadRequest withSessions(int sessions) {
+        return new VfsDownloadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            validateChecksum,
+            checksumExpected,
+            checksumAlgorithm,
+            resumeAttempts,
+            bandwidth,
+            sessions
+        );
     }
 
     public static VfsDownloadRequest of(
@@ -34,7 +93,10 @@ public record VfsDownloadRequest(
             from,
             false,
             null,
-            ChecksumService.Algorithm.SHA_256
+            ChecksumService.Algorithm.SHA_256,
+            DEFAULT_RESUME_ATTEMPTS,
+            Bandwidth.UNLIMITED,
+            1
         );
     }
 }
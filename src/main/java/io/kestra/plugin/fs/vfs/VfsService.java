@@ -4,22 +4,35 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.KestraRuntimeException;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.utils.FileUtils;
+import io.kestra.core.utils.Rethrow;
 import io.kestra.plugin.fs.vfs.models.File;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.vfs2.*;
 import org.apache.commons.vfs2.impl.StandardFileSystemManager;
 import org.apache.commons.vfs2.provider.AbstractFileObject;
+import org.apache.commons.vfs2.util.RandomAccessMode;
 import org.apache.commons.vfs2.util.URIUtils;
 
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
@@ -28,6 +41,24 @@ import java.util.stream.Stream;
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
 public abstract class VfsService {
+    // VFS providers open an extra channel/client per concurrent caller, so a few in-flight renames/deletes
+    // hide most of the per-request latency without hammering the server
+    static final int ACTION_CONCURRENCY = 4;
+
+    private static final Duration RESUME_BACKOFF = Duration.ofSeconds(1);
+    private static final int RESUME_CHECK_BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * A file system manager configured like the one of the VFS tasks, for callers outside this package.
+     */
+    public static StandardFileSystemManager fileSystemManager(RunContext runContext) throws FileSystemException {
+        StandardFileSystemManager fsm = new KestraStandardFileSystemManager(runContext);
+        fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
+        fsm.init();
+
+        return fsm;
+    }
+
     public static String basicAuth(String username, String password) {
         if (username != null && password != null) {
             return username + ":" + password;
@@ -131,13 +162,38 @@ public abstract class VfsService {
         URI from = request.from();
         java.io.File tempFile = runContext.workingDir().createTempFile(FileUtils.getExtension(from)).toFile();
 
-        try (
-            FileObject local = request.fsm().resolveFile(tempFile.toURI());
-            FileObject remote = request.fsm().resolveFile(from.toString(), request.fileSystemOptions())
-        ) {
-            local.copyFrom(remote, Selectors.SELECT_SELF);
+        int resumes = 0;
+        while (true) {
+            try {
+                downloadFromOffset(request, tempFile);
+                break;
+            } catch (IOException e) {
+                // nothing to resume when the failure happens before the first byte, e.g. a refused connection
+                if (resumes >= request.resumeAttempts() || tempFile.length() == 0) {
+                    throw e;
+                }
+
+                resumes++;
+                runContext.logger().warn(
+                    "Download of '{}' interrupted after {} bytes, resuming ({}/{}): {}",
+                    VfsService.uriWithoutAuth(from), tempFile.length(), resumes, request.resumeAttempts(), e.getMessage()
+                );
+
+                resetFileSystem(request);
+                Thread.sleep(RESUME_BACKOFF.toMillis() * resumes);
+            }
         }
 
+        return store(request, tempFile);
+    }
+
+    /**
+     * Verifies the checksum of a downloaded file and stores it in internal storage.
+     */
+    public static Download.Output store(VfsDownloadRequest request, java.io.File tempFile) throws Exception {
+        RunContext runContext = request.runContext();
+        URI from = request.from();
+
         ChecksumService.warnIfWeak(runContext.logger(), request.checksumAlgorithm());
         String checksum = request.validateChecksum()
             ? ChecksumService.verify(tempFile.toPath(), request.checksumAlgorithm(), request.checksumExpected())
@@ -154,6 +210,63 @@ public abstract class VfsService {
             .build();
     }
 
+    /**
+     * Appends the remote content to the temp file, from its current length: the whole file on the first call, the
+     * missing part after an interruption, read with an offset (SFTP) or after a `REST` command (FTP).
+     */
+    static void downloadFromOffset(VfsDownloadRequest request, java.io.File tempFile) throws IOException {
+        long offset = tempFile.length();
+
+        try (FileObject remote = request.fsm().resolveFile(request.from().toString(), request.fileSystemOptions())) {
+            if (offset == 0) {
+                try (
+                    InputStream in = request.bandwidth().wrap(remote.getContent().getInputStream());
+                    OutputStream out = new FileOutputStream(tempFile)
+                ) {
+                    BufferPool.copy(in, out);
+                }
+                return;
+            }
+
+            long size = remote.getContent().getSize();
+            if (offset > size) {
+                // the remote file was replaced by a smaller one since the first attempt
+                request.runContext().logger().warn("Remote file '{}' is smaller than the bytes already downloaded, restarting from the beginning", VfsService.uriWithoutAuth(request.from()));
+                Files.write(tempFile.toPath(), new byte[0]);
+                downloadFromOffset(request, tempFile);
+                return;
+            }
+
+            try (
+                RandomAccessContent content = remote.getContent().getRandomAccessContent(RandomAccessMode.READ);
+                OutputStream out = new FileOutputStream(tempFile, true)
+            ) {
+                content.seek(offset);
+                try (InputStream in = request.bandwidth().wrap(content.getInputStream())) {
+                    BufferPool.copy(in, out);
+                }
+            }
+
+            if (tempFile.length() != size) {
+                throw new KestraRuntimeException(String.format(
+                    "Resumed download of '%s' has %d bytes but the remote file has %d bytes.",
+                    VfsService.uriWithoutAuth(request.from()), tempFile.length(), size
+                ));
+            }
+        }
+    }
+
+    /**
+     * Drops the connection of a failed transfer, so that the next attempt opens a new one.
+     */
+    private static void resetFileSystem(VfsDownloadRequest request) {
+        try (FileObject remote = request.fsm().resolveFile(request.from().toString(), request.fileSystemOptions())) {
+            request.fsm().closeFileSystem(remote.getFileSystem());
+        } catch (FileSystemException e) {
+            request.runContext().logger().debug("Unable to close the file system of '{}'", request.from().getHost(), e);
+        }
+    }
+
     public static Upload.Output upload(
         RunContext runContext,
         StandardFileSystemManager fsm,
@@ -172,36 +285,78 @@ public abstract class VfsService {
         URI to,
         boolean overwrite
     ) throws Exception {
-        // copy from to a temp files
-        java.io.File tempFile = runContext.workingDir().createTempFile().toFile();
+        return upload(runContext, fsm, fileSystemOptions, from, to, overwrite, null);
+    }
 
-        // copy from to a temp file
-        try (OutputStream outputStream = new FileOutputStream(tempFile)) {
-            IOUtils.copy(runContext.storage().getFile(from), outputStream);
+    public static Upload.Output upload(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        URI to,
+        boolean overwrite,
+        MetadataCache cache
+    ) throws Exception {
+        return upload(VfsUploadRequest.of(runContext, fsm, fileSystemOptions, from, to, overwrite, cache));
+    }
+
+    public static Upload.Output upload(VfsUploadRequest request) throws Exception {
+        RunContext runContext = request.runContext();
+        URI from = request.from();
+        URI to = request.to();
+        MetadataCache cache = request.cache();
+
+        // copy from to a temp file, computing the checksum on the way
+        java.io.File tempFile = runContext.workingDir().createTempFile().toFile();
+        MessageDigest digest = ChecksumService.digest(request.checksumAlgorithm());
+        try (OutputStream outputStream = new DigestOutputStream(new FileOutputStream(tempFile), digest)) {
+            BufferPool.copy(runContext.storage().getFile(from), outputStream);
         }
 
         // upload
-        try (FileObject local = fsm.resolveFile(tempFile.toURI());
-             FileObject remote = fsm.resolveFile(to.toString(), fileSystemOptions)
+        try (FileObject local = request.fsm().resolveFile(tempFile.toURI());
+             FileObject remote = request.fsm().resolveFile(to.toString(), request.fileSystemOptions())
         ) {
-            //Avoid overriding a folder with a file when the remote folder exists
-            if (!overwrite && remote.isFolder() && remote.exists() && !to.getPath().endsWith("/")) {
-                throw new KestraRuntimeException(String.format(
-                    """
-                    Overwrite field is set to `false`. Folder %s will be overwritten with current file.
-                    If you want the folder to be overwritten with the file, set `overwrite: true`.
-                    """,
-                    remote.getName().getPath()
-                ));
+            if (!request.overwrite()) {
+                // when batching, the type comes from a single listing of the destination directory shared by all files
+                FileType remoteType = cache != null ? cache.type(remote) : remote.getType();
+
+                //Avoid overriding a folder with a file when the remote folder exists
+                if (remoteType.hasChildren() && !to.getPath().endsWith("/")) {
+                    throw new KestraRuntimeException(String.format(
+                        """
+                        Overwrite field is set to `false`. Folder %s will be overwritten with current file.
+                        If you want the folder to be overwritten with the file, set `overwrite: true`.
+                        """,
+                        remote.getName().getPath()
+                    ));
+                }
+                //Fail when the destination file already exists and overwrite is disabled
+                if (remoteType != FileType.IMAGINARY && !remoteType.hasChildren()) {
+                    throw new KestraRuntimeException(String.format(
+                        "File '%s' already exists in the remote server and cannot be overwritten. Set `overwrite: true` to replace it.",
+                        remote.getName().getPath()
+                    ));
+                }
             }
-            //Fail when the destination file already exists and overwrite is disabled
-            if (!overwrite && remote.exists() && !remote.isFolder()) {
-                throw new KestraRuntimeException(String.format(
-                    "File '%s' already exists in the remote server and cannot be overwritten. Set `overwrite: true` to replace it.",
-                    remote.getName().getPath()
-                ));
+
+            if (request.atomicRename()) {
+                // readers never see a partial file: the content goes to a sibling that is renamed once complete
+                try (FileObject partial = request.fsm().resolveFile(to + VfsUploadRequest.PARTIAL_SUFFIX, request.fileSystemOptions())) {
+                    write(request, tempFile, local, partial);
+
+                    if (remote.exists()) {
+                        remote.deleteAll();
+                    }
+                    partial.moveTo(remote);
+                }
+            } else {
+                write(request, tempFile, local, remote);
+            }
+
+            if (cache != null) {
+                cache.written(remote.getName().getPath(), FileType.FILE);
             }
-            remote.copyFrom(local, Selectors.SELECT_SELF);
         }
 
         runContext.logger().debug("File '{}' uploaded to '{}'", VfsService.uriWithoutAuth(from), VfsService.uriWithoutAuth(to));
@@ -209,9 +364,103 @@ public abstract class VfsService {
         return Upload.Output.builder()
             .from(from)
             .to(VfsService.uriWithoutAuth(to))
+            .checksum(HexFormat.of().formatHex(digest.digest()))
             .build();
     }
 
+    /**
+     * Writes the local file to the remote one. When resuming, a remote file holding a prefix of the local content,
+     * left by an interrupted upload, is completed by appending the missing bytes instead of being rewritten.
+     */
+    private static void write(VfsUploadRequest request, java.io.File tempFile, FileObject local, FileObject remote) throws Exception {
+        long size = tempFile.length();
+        long offset = request.resume() ? resumableOffset(local, remote, size) : 0;
+        // the remote size is asked to the server, at the cost of a round trip, where a write can be dropped or truncated
+        // without failing: appends to a previous upload, and protocol writers such as ranges written over several channels
+        boolean verifySize = false;
+
+        if (offset == 0) {
+            if (request.writer() != null || !request.bandwidth().isUnlimited()) {
+                // copyFrom creates the missing parents itself, writers and streams expect them to exist
+                FileObject parent = remote.getParent();
+                if (parent != null && !parent.exists()) {
+                    parent.createFolder();
+                }
+            }
+
+            if (request.writer() != null && request.writer().write(tempFile, remote.getName().getPath(), size)) {
+                verifySize = true;
+            } else if (request.bandwidth().isUnlimited()) {
+                remote.copyFrom(local, Selectors.SELECT_SELF);
+            } else {
+                try (
+                    InputStream in = request.bandwidth().wrap(local.getContent().getInputStream());
+                    OutputStream out = remote.getContent().getOutputStream()
+                ) {
+                    BufferPool.copy(in, out);
+                }
+            }
+        } else if (offset < size) {
+            request.runContext().logger().info(
+                "Resuming upload to '{}' from byte {} of {}", VfsService.uriWithoutAuth(request.to()), offset, size
+            );
+
+            try (
+                InputStream in = request.bandwidth().wrap(local.getContent().getInputStream());
+                OutputStream out = remote.getContent().getOutputStream(true)
+            ) {
+                in.skipNBytes(offset);
+                BufferPool.copy(in, out);
+            }
+            verifySize = true;
+        } else {
+            request.runContext().logger().info("Remote file '{}' is already complete", VfsService.uriWithoutAuth(request.to()));
+        }
+
+        if (verifySize) {
+            remote.refresh();
+            long remoteSize = remote.getContent().getSize();
+            if (remoteSize != size) {
+                throw new KestraRuntimeException(String.format(
+                    "Uploaded file '%s' has %d bytes but the local file has %d bytes.",
+                    VfsService.uriWithoutAuth(request.to()), remoteSize, size
+                ));
+            }
+        }
+    }
+
+    /**
+     * Number of bytes of a previous upload that can be kept: the remote size when the remote file is not larger than the
+     * local one and its last block matches the same range of the local file, 0 otherwise.
+     */
+    static long resumableOffset(FileObject local, FileObject remote, long size) throws IOException {
+        if (!remote.exists() || remote.getType() != FileType.FILE || !remote.getFileSystem().hasCapability(Capability.APPEND_CONTENT)) {
+            return 0;
+        }
+
+        long remoteSize = remote.getContent().getSize();
+        if (remoteSize == 0 || remoteSize > size) {
+            return 0;
+        }
+
+        int blockSize = (int) Math.min(RESUME_CHECK_BLOCK_SIZE, remoteSize);
+        long blockOffset = remoteSize - blockSize;
+
+        byte[] remoteBlock = new byte[blockSize];
+        try (RandomAccessContent content = remote.getContent().getRandomAccessContent(RandomAccessMode.READ)) {
+            content.seek(blockOffset);
+            content.readFully(remoteBlock);
+        }
+
+        byte[] localBlock = new byte[blockSize];
+        try (InputStream in = local.getContent().getInputStream()) {
+            in.skipNBytes(blockOffset);
+            in.readNBytes(localBlock, 0, blockSize);
+        }
+
+        return Arrays.equals(remoteBlock, localBlock) ? remoteSize : 0;
+    }
+
     public static Delete.Output delete(
         RunContext runContext,
         StandardFileSystemManager fsm,
@@ -324,6 +573,18 @@ public abstract class VfsService {
         URI from,
         URI to,
         boolean overwrite
+    ) throws Exception {
+        return move(runContext, fsm, fileSystemOptions, from, to, overwrite, null);
+    }
+
+    public static Move.Output move(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        URI to,
+        boolean overwrite,
+        MetadataCache cache
     ) throws Exception {
         // user pass a destination without filename, we add it
         if (!isDirectory(from) && isDirectory(to)) {
@@ -350,16 +611,27 @@ public abstract class VfsService {
             } else {
                 URI pathToCreate = to.resolve("/" + URIUtils.encodePath(FilenameUtils.getPath(to.getPath())));
 
-                try (FileObject directory = fsm.resolveFile(to.toString(), fileSystemOptions)) {
-                    if (!directory.exists()) {
-                        directory.createFolder();
-                        runContext.logger().debug("Create directory '{}", VfsService.uriWithoutAuth(pathToCreate));
+                if (cache == null || !cache.isKnownFolder(pathToCreate.getPath())) {
+                    try (FileObject directory = fsm.resolveFile(pathToCreate.toString(), fileSystemOptions)) {
+                        if (!directory.exists()) {
+                            directory.createFolder();
+                            runContext.logger().debug("Create directory '{}", VfsService.uriWithoutAuth(pathToCreate));
+                        }
+                    }
+
+                    if (cache != null) {
+                        cache.addFolder(pathToCreate.getPath());
                     }
                 }
             }
 
             local.moveTo(remote);
 
+            if (cache != null) {
+                cache.removed(local.getName().getPath());
+                cache.written(remote.getName().getPath(), remote.getType());
+            }
+
             if (local.exists()) {
                 runContext.logger().debug("Move file '{}'", VfsService.uriWithoutAuth(from));
             } else {
@@ -373,6 +645,74 @@ public abstract class VfsService {
         }
     }
 
+    public static Copy.Output copy(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        URI to,
+        boolean overwrite,
+        ServerCopy serverCopy
+    ) throws Exception {
+        // user pass a destination without filename, we add it
+        if (!isDirectory(from) && isDirectory(to)) {
+            to = to.resolve(URIUtils.encodePath(StringUtils.stripEnd(to.getPath(), "/") + "/" + FilenameUtils.getName(from.getPath())));
+        }
+
+        try (
+            FileObject source = fsm.resolveFile(from.toString(), fileSystemOptions);
+            FileObject target = fsm.resolveFile(to.toString(), fileSystemOptions)
+        ) {
+            if (!source.exists()) {
+                throw new NoSuchElementException("Unable to find file '" + VfsService.uriWithoutAuth(from) + "'");
+            }
+
+            if (target.exists()) {
+                if (!overwrite) {
+                    throw new KestraRuntimeException(String.format("File '%s' already exists in the remote server and cannot be overwritten. If you want to ignore this, set `overwrite` to `true`.", VfsService.uriWithoutAuth(to).getPath()));
+                }
+
+                runContext.logger().warn("File '{}' already exists in the remote server and will be overwritten.", VfsService.uriWithoutAuth(to));
+                target.deleteAll();
+            }
+
+            FileObject directory = target.getParent();
+            if (directory != null && !directory.exists()) {
+                directory.createFolder();
+                runContext.logger().debug("Create directory '{}'", directory.getName().getPath());
+            }
+
+            boolean serverSide = serverCopy != null && serverCopy.copy(from, to);
+            if (serverSide) {
+                target.refresh();
+
+                // restricted accounts can accept a command without running it
+                if (!target.exists()) {
+                    runContext.logger().warn("Server-side copy didn't create '{}', copying through the worker instead.", VfsService.uriWithoutAuth(to));
+                    serverSide = false;
+                }
+            }
+
+            if (!serverSide) {
+                // the content is streamed from the source to the target, without going through the internal storage
+                target.copyFrom(source, Selectors.SELECT_ALL);
+            }
+
+            runContext.logger().debug("Copy file '{}' to '{}'", VfsService.uriWithoutAuth(from), VfsService.uriWithoutAuth(to));
+
+            return Copy.Output.builder()
+                .from(VfsService.uriWithoutAuth(from))
+                .to(VfsService.uriWithoutAuth(to))
+                .serverSide(serverSide)
+                .build();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ServerCopy {
+        boolean copy(URI from, URI to) throws Exception;
+    }
+
     public static void performAction(
         RunContext runContext,
         StandardFileSystemManager fsm,
@@ -382,30 +722,80 @@ public abstract class VfsService {
         URI moveDirectory
     ) throws Exception {
         if (action == Downloads.Action.DELETE) {
-            for (io.kestra.plugin.fs.vfs.models.File file : blobList) {
-                VfsService.delete(
-                    runContext,
-                    fsm,
-                    fileSystemOptions,
-                    file.getServerPath(),
-                    false,
-                    false
-                );
-            }
+            forEachConcurrently(blobList, ACTION_CONCURRENCY, file -> {
+                try (FileObject remote = fsm.resolveFile(file.getServerPath().toString(), fileSystemOptions)) {
+                    if (remote.delete()) {
+                        runContext.logger().debug("Deleted path '{}'", VfsService.uriWithoutAuth(file.getServerPath()));
+                    } else {
+                        runContext.logger().debug("Path doesn't exist '{}'", VfsService.uriWithoutAuth(file.getServerPath()));
+                    }
+                }
+            });
         } else if (action == Downloads.Action.MOVE) {
-            for (io.kestra.plugin.fs.vfs.models.File file : blobList) {
-                //Destination should be considered as a directory
-                if (!moveDirectory.getPath().endsWith("/")) {
-                    moveDirectory = moveDirectory.resolve(URIUtils.encodePath(StringUtils.stripEnd(moveDirectory.getPath(), "/") + "/"));
+            //Destination should be considered as a directory
+            URI directoryUri = moveDirectory.getPath().endsWith("/")
+                ? moveDirectory
+                : moveDirectory.resolve(URIUtils.encodePath(StringUtils.stripEnd(moveDirectory.getPath(), "/") + "/"));
+
+            // the target directory is resolved and created once for the whole batch instead of once per file
+            try (FileObject directory = fsm.resolveFile(directoryUri.toString(), fileSystemOptions)) {
+                if (!directory.exists()) {
+                    directory.createFolder();
+                    runContext.logger().debug("Create directory '{}'", VfsService.uriWithoutAuth(directoryUri));
                 }
-                VfsService.move(
-                    runContext,
-                    fsm,
-                    fileSystemOptions,
-                    file.getServerPath(),
-                    moveDirectory,
-                    true
-                );
+
+                forEachConcurrently(blobList, ACTION_CONCURRENCY, file -> {
+                    String name = FilenameUtils.getName(file.getServerPath().getPath());
+
+                    try (
+                        FileObject source = fsm.resolveFile(file.getServerPath().toString(), fileSystemOptions);
+                        FileObject target = directory.resolveFile(URIUtils.encodePath(name))
+                    ) {
+                        // moveTo replaces an existing target, as `move(..., overwrite = true)` did
+                        source.moveTo(target);
+                        runContext.logger().debug("Move file '{}' to '{}'", VfsService.uriWithoutAuth(file.getServerPath()), target.getName().getPath());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Applies {@code action} to every item using up to {@code concurrency} threads.
+     * All items are processed even if some fail; the first failure is rethrown with the others suppressed.
+     */
+    public static <T> void forEachConcurrently(java.util.List<T> items, int concurrency, Rethrow.ConsumerChecked<T, Exception> action) throws Exception {
+        if (concurrency <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                action.accept(item);
+            }
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, items.size()))) {
+            java.util.List<Future<Void>> futures = items.stream()
+                .map(item -> executor.submit(() -> {
+                    action.accept(item);
+                    return (Void) null;
+                }))
+                .toList();
+
+            Exception failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
             }
         }
     }
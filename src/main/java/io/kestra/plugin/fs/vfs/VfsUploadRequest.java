@@ -0,0 +1,133 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.runners.RunContext;
+import org.apache.commons.vfs2.FileSystemOptions;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+
+import java.io.File;
+import java.net.URI;
+
+public record VfsUploadRequest(
+    RunContext runContext,
+    StandardFileSystemManager fsm,
+    FileSystemOptions fileSystemOptions,
+    URI from,
+    URI to,
+    boolean overwrite,
+    MetadataCache cache,
+    boolean resume,
+    boolean atomicRename,
+    ChecksumService.Algorithm checksumAlgorithm,
+    Writer writer,
+    Bandwidth bandwidth,
+    int sessions
+) {
+    public static final String PARTIAL_SUFFIX = ".part";
+
+    public VfsUploadRequest {
+        if (checksumAlgorithm == null) {
+            checksumAlgorithm = ChecksumService.Algorithm.SHA_256;
+        }
+
+        if (bandwidth == null) {
+            bandwidth = Bandwidth.UNLIMITED;
+        }
+
+        // the sessions to the server granted to the task, see HostSessions
+        if (sessions < 1) {
+            sessions = 1;
+        }
+    }
+
+    public static VfsUploadRequest of(
+        RunContext runContext,
+        StandardFileSystemManager fsm,
+        FileSystemOptions fileSystemOptions,
+        URI from,
+        URI to,
+        boolean overwrite,
+        MetadataCache cache
+    ) {
+        return new VfsUploadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            to,
+            overwrite,
+            cache,
+            false,
+            false,
+            ChecksumService.Algorithm.SHA_256,
+            null,
+            Bandwidth.UNLIMITED,
+            1
+        );
+    }
+
+    public VfsUploadRequest withWriter(Writer writer) {
+        return new VfsUploadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            to,
+            overwrite,
+            cache,
+            resume,
+            atomicRename,
+            checksumAlgorithm,
+            writer,
+            bandwidth,
+            sessions
+        );
+    }
+
+    public VfsUploadRequest withBandwidth(Bandwidth bandwidth) {
+        return new VfsUploadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            to,
+            overwrite,
+            cache,
+            resume,
+            atomicRename,
+            checksumAlgorithm,
+            writer,
+            bandwidth,
+            sessions
+        );
+    }
+
+    public VfsUploadRequest withSessions(int sessions) {
+        return new VfsUploadRequest(
+            runContext,
+            fsm,
+            fileSystemOptions,
+            from,
+            to,
+            overwrite,
+            cache,
+            resume,
+            atomicRename,
+            checksumAlgorithm,
+            writer,
+            bandwidth,
+            sessions
+        );
+    }
+
+    /**
+     * Protocol-specific way to write the whole local file to the remote path, used instead of a single VFS stream.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        /**
+         * @return false when this writer doesn't apply, the file is then written through VFS, true once the `size` bytes
+         * are written, a writer failing instead when they can't be
+         */
+        boolean write(File local, String remotePath, long size) throws Exception;
+    }
+}
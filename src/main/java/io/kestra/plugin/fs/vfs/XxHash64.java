@@ -0,0 +1,145 @@
+package io.kestra.plugin.fs.vfs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 with a seed of 0, as a {@link java.security.MessageDigest} so that it can be used wherever the other
+ * algorithms are. The digest is the 64-bit hash in big-endian order, the form printed by `xxhsum -H64`.
+ */
+final class XxHash64 extends java.security.MessageDigest {
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE = 32;
+
+    // bytes of the current stripe not processed yet, little-endian as the algorithm reads them
+    private final ByteBuffer pending = ByteBuffer.allocate(STRIPE).order(ByteOrder.LITTLE_ENDIAN);
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+    private long length;
+
+    XxHash64() {
+        super("XXH64");
+        this.engineReset();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return Long.BYTES;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        pending.put(input);
+        length++;
+        if (!pending.hasRemaining()) {
+            this.stripe();
+        }
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int len) {
+        length += len;
+        int end = offset + len;
+
+        if (pending.position() > 0) {
+            int fill = Math.min(pending.remaining(), len);
+            pending.put(input, offset, fill);
+            offset += fill;
+            if (pending.hasRemaining()) {
+                return;
+            }
+            this.stripe();
+        }
+
+        // whole stripes are read from the input, without going through the pending buffer
+        ByteBuffer in = ByteBuffer.wrap(input).order(ByteOrder.LITTLE_ENDIAN);
+        for (; offset + STRIPE <= end; offset += STRIPE) {
+            v1 = round(v1, in.getLong(offset));
+            v2 = round(v2, in.getLong(offset + 8));
+            v3 = round(v3, in.getLong(offset + 16));
+            v4 = round(v4, in.getLong(offset + 24));
+        }
+
+        pending.put(input, offset, end - offset);
+    }
+
+    private void stripe() {
+        v1 = round(v1, pending.getLong(0));
+        v2 = round(v2, pending.getLong(8));
+        v3 = round(v3, pending.getLong(16));
+        v4 = round(v4, pending.getLong(24));
+        pending.clear();
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        long hash;
+        if (length >= STRIPE) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = merge(hash, v1);
+            hash = merge(hash, v2);
+            hash = merge(hash, v3);
+            hash = merge(hash, v4);
+        } else {
+            hash = PRIME_5;
+        }
+
+        hash += length;
+
+        int remaining = pending.position();
+        int offset = 0;
+        for (; offset + 8 <= remaining; offset += 8) {
+            hash ^= round(0, pending.getLong(offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+        }
+
+        if (offset + 4 <= remaining) {
+            hash ^= Integer.toUnsignedLong(pending.getInt(offset)) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            offset += 4;
+        }
+
+        for (; offset < remaining; offset++) {
+            hash ^= Byte.toUnsignedLong(pending.get(offset)) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+
+        this.engineReset();
+
+        return ByteBuffer.allocate(Long.BYTES).putLong(hash).array();
+    }
+
+    @Override
+    protected void engineReset() {
+        v1 = PRIME_1 + PRIME_2;
+        v2 = PRIME_2;
+        v3 = 0;
+        v4 = -PRIME_1;
+        length = 0;
+        pending.clear();
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME_1;
+    }
+
+    private static long merge(long hash, long acc) {
+        hash ^= round(0, acc);
+        return hash * PRIME_1 + PRIME_4;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.With;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.vfs2.FileSystemException;
 import org.apache.commons.vfs2.FileType;
 import org.apache.commons.vfs2.provider.AbstractFileObject;
@@ -76,6 +77,41 @@ public class File {
         return builder.build();
     }
 
+    /**
+     * A file listed directly through JSch, from the attributes returned with the listing.
+     */
+    public static File of(URI serverPath, SftpATTRS attrs, boolean symbolicLink) throws URISyntaxException {
+        return File.builder()
+            .path(new URI(null, serverPath.getPath(), null))
+            .serverPath(serverPath)
+            .name(FilenameUtils.getName(serverPath.getPath()))
+            .fileType(attrs.isDir() ? FileType.FOLDER : FileType.FILE)
+            .symbolicLink(symbolicLink)
+            .size(attrs.isDir() ? null : attrs.getSize())
+            .userId(attrs.getUId())
+            .groupId(attrs.getGId())
+            .permissions(attrs.getPermissions())
+            .flags(attrs.getFlags())
+            .accessDate(Instant.ofEpochSecond(Integer.toUnsignedLong(attrs.getATime())))
+            .updatedDate(Instant.ofEpochSecond(Integer.toUnsignedLong(attrs.getMTime())))
+            .build();
+    }
+
+    /**
+     * A file listed with a native FTP client, from an `MLSD` entry.
+     */
+    public static File of(URI serverPath, FTPFile ftpFile) throws URISyntaxException {
+        return File.builder()
+            .path(new URI(null, serverPath.getPath(), null))
+            .serverPath(serverPath)
+            .name(FilenameUtils.getName(serverPath.getPath()))
+            .fileType(ftpFile.isDirectory() ? FileType.FOLDER : FileType.FILE)
+            .symbolicLink(ftpFile.isSymbolicLink())
+            .size(ftpFile.isDirectory() || ftpFile.getSize() < 0 ? null : ftpFile.getSize())
+            .updatedDate(ftpFile.getTimestamp() != null ? ftpFile.getTimestamp().toInstant() : null)
+            .build();
+    }
+
     @SuppressWarnings("deprecation")
     private static URI serverPath(AbstractFileObject<?> fileObject) throws URISyntaxException {
         return switch (fileObject.getName()) {
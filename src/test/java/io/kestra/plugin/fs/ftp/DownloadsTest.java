@@ -56,6 +56,32 @@ class DownloadsTest {
         assertThat(ftpUtils.list(toUploadDir).getFiles().isEmpty(), is(true));
     }
 
+    @Test
+    void run_ConcurrentDownloads() throws Exception {
+        String toUploadDir = "/upload/" + IdUtils.create();
+        for (int i = 0; i < 5; i++) {
+            ftpUtils.upload(toUploadDir + "/" + FriendlyId.createFriendlyId() + ".txt");
+        }
+
+        Downloads task = Downloads.builder()
+            .id(DownloadsTest.class.getSimpleName())
+            .type(DownloadsTest.class.getName())
+            .from(Property.ofValue(toUploadDir + "/"))
+            .action(Property.ofValue(Downloads.Action.NONE))
+            .concurrency(Property.ofValue(3))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6621"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .build();
+
+        Downloads.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(run.getFiles().size(), is(5));
+        assertThat(run.getOutputFiles().size(), is(5));
+        run.getFiles().forEach(file -> assertThat(file.getPath().getScheme(), is("kestra")));
+    }
+
     @Test
     void run_NoneAfterDownloads() throws Exception {
         String toUploadDir = "/upload/" + random;
@@ -0,0 +1,75 @@
+package io.kestra.plugin.fs.ftp;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.fs.vfs.models.File;
+import jakarta.inject.Inject;
+import org.apache.commons.net.ftp.FTPFile;
+import org.apache.commons.net.ftp.parser.MLSxEntryParser;
+import org.apache.commons.vfs2.FileType;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class FtpServiceTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void mlsdEntry() throws Exception {
+        FTPFile entry = MLSxEntryParser.parseEntry("type=file;size=1234;modify=20240102030405.123;UNIX.mode=0644; report 2024.csv");
+
+        File file = File.of(URI.create("ftp://localhost:21/upload/report%202024.csv"), entry);
+
+        assertThat(FtpService.isSelfOrParent(entry), is(false));
+        assertThat(file.getName(), is("report 2024.csv"));
+        assertThat(file.getPath().getPath(), is("/upload/report 2024.csv"));
+        assertThat(file.getFileType(), is(FileType.FILE));
+        assertThat(file.getSize(), is(1234L));
+        assertThat(file.getUpdatedDate(), is(Instant.parse("2024-01-02T03:04:05.123Z")));
+    }
+
+    @Test
+    void mlsdSelfAndParent() {
+        assertThat(FtpService.isSelfOrParent(MLSxEntryParser.parseEntry("type=cdir;modify=20240102030405; /upload")), is(true));
+        assertThat(FtpService.isSelfOrParent(MLSxEntryParser.parseEntry("Type=pdir;modify=20240102030405; ..")), is(true));
+        assertThat(FtpService.isSelfOrParent(MLSxEntryParser.parseEntry("type=dir;modify=20240102030405; sub")), is(false));
+    }
+
+    @Test
+    void transferProfile() throws Exception {
+        FtpService.TransferSettings defaults = FtpService.transfer(runContextFactory.of(), FtpInterface.Options.builder().build());
+        assertThat(defaults.sendBufferSize(), nullValue());
+        assertThat(defaults.bufferSize(), nullValue());
+        assertThat(defaults.tcpNoDelay(), is(true));
+
+        FtpService.TransferSettings highLatency = FtpService.transfer(runContextFactory.of(), FtpInterface.Options.builder()
+            .transfer(FtpInterface.Transfer.builder()
+                .profile(Property.ofValue(FtpInterface.Transfer.Profile.HIGH_LATENCY))
+                .bufferSize(Property.ofValue(65536))
+                .build()
+            )
+            .build()
+        );
+        assertThat(highLatency.sendBufferSize(), is(4 * 1024 * 1024));
+        assertThat(highLatency.receiveBufferSize(), is(4 * 1024 * 1024));
+        assertThat(highLatency.bufferSize(), is(65536));
+    }
+
+    @Test
+    void transferInvalidBufferSize() {
+        FtpInterface.Options options = FtpInterface.Options.builder()
+            .transfer(FtpInterface.Transfer.builder().sendBufferSize(Property.ofValue(0)).build())
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> FtpService.transfer(runContextFactory.of(), options));
+    }
+}
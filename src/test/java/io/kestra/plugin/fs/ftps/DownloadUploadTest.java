@@ -131,6 +131,62 @@ class DownloadUploadTest {
         ));
     }
 
+    @Test
+    void mlsdListAndPooledTransfers() throws Exception {
+        URI uri1 = ftpUtils.uploadToStorage();
+        URI uri2 = ftpUtils.uploadToStorage();
+        URI uri3 = ftpUtils.uploadToStorage();
+
+        String path = "/upload/" + IdUtils.create() + "/";
+
+        // the pool and the MLSD listing go through the native client, with the same certificate checks as Commons VFS
+        Uploads uploadsTask = Uploads.builder().id(DownloadUploadTest.class.getSimpleName())
+            .type(DownloadUploadTest.class.getName())
+            .from(List.of(uri1.toString(), uri2.toString(), uri3.toString()))
+            .to(Property.ofValue(path))
+            .concurrency(Property.ofValue(2))
+            .host(Property.ofValue("127.0.0.1"))
+            .port(Property.ofValue("6990"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .build();
+        Uploads.Output uploadsRun = uploadsTask.run(TestsUtils.mockRunContext(runContextFactory, uploadsTask, Map.of()));
+        assertThat(uploadsRun.getFiles().size(), is(3));
+
+        io.kestra.plugin.fs.ftps.List listTask = io.kestra.plugin.fs.ftps.List.builder()
+            .id(DownloadUploadTest.class.getSimpleName())
+            .type(DownloadUploadTest.class.getName())
+            .from(Property.ofValue(path))
+            .host(Property.ofValue("127.0.0.1"))
+            .port(Property.ofValue("6990"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .build();
+        io.kestra.plugin.fs.vfs.List.Output listRun = listTask.run(TestsUtils.mockRunContext(runContextFactory, listTask, Map.of()));
+        assertThat(listRun.getFiles().size(), is(3));
+
+        Downloads downloadsTask = Downloads.builder()
+            .id(DownloadUploadTest.class.getSimpleName())
+            .type(DownloadUploadTest.class.getName())
+            .from(Property.ofValue(path))
+            .action(Property.ofValue(io.kestra.plugin.fs.ftp.Downloads.Action.DELETE))
+            .concurrency(Property.ofValue(2))
+            .host(Property.ofValue("127.0.0.1"))
+            .port(Property.ofValue("6990"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .build();
+        Downloads.Output downloadsRun = downloadsTask.run(TestsUtils.mockRunContext(runContextFactory, downloadsTask, Map.of()));
+
+        assertThat(downloadsRun.getFiles().size(), is(3));
+        for (File file : downloadsRun.getFiles()) {
+            assertThat(
+                IOUtils.toString(this.storageInterface.get(TenantService.MAIN_TENANT, null, file.getPath()), Charsets.UTF_8),
+                is(IOUtils.toString(this.storageInterface.get(TenantService.MAIN_TENANT, null, uri1), Charsets.UTF_8))
+            );
+        }
+    }
+
     @Test
     void insecureTrustAllCertificates_logsWarning() throws Exception {
         List<LogEntry> logs = new CopyOnWriteArrayList<>();
@@ -5,6 +5,7 @@ import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.StatefulTriggerInterface;
 import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.fs.vfs.Shard;
 import io.kestra.plugin.fs.vfs.models.File;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
@@ -433,6 +434,42 @@ class TriggerTest extends AbstractTriggerTest {
         }
     }
 
+    @Test
+    void shardedFilesPastMaxFilesFireOnNextEvaluation() throws Exception {
+        Path dir = Paths.get("/tmp/local-shard-maxfiles");
+        Files.createDirectories(dir);
+
+        try {
+            Files.writeString(dir.resolve("file1.txt"), "file1");
+            Files.writeString(dir.resolve("file2.txt"), "file2");
+
+            var trigger = io.kestra.plugin.fs.local.Trigger.builder()
+                .id("local-" + FriendlyId.createFriendlyId())
+                .type(io.kestra.plugin.fs.local.Trigger.class.getName())
+                .from(Property.ofValue(dir.toString()))
+                .shard(Shard.builder().index(Property.ofValue(0)).count(Property.ofValue(1)).build())
+                .maxFiles(Property.ofValue(1))
+                .interval(Duration.ofSeconds(5))
+                .build();
+
+            var context = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+            for (int i = 0; i < 2; i++) {
+                Optional<Execution> execution = trigger.evaluate(context.getKey(), context.getValue());
+
+                assertThat(execution.isPresent(), is(true));
+                @SuppressWarnings("unchecked")
+                java.util.List<Object> rawFiles =
+                    (java.util.List<Object>) execution.get().getTrigger().getVariables().get("files");
+                assertThat(rawFiles, hasSize(1));
+            }
+
+            assertThat(trigger.evaluate(context.getKey(), context.getValue()).isPresent(), is(false));
+        } finally {
+            cleanup(dir);
+        }
+    }
+
     private void cleanup(Path directory) {
         if (Files.exists(directory)) {
             try {
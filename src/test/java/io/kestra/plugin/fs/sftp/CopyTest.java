@@ -0,0 +1,100 @@
+package io.kestra.plugin.fs.sftp;
+
+import io.kestra.core.exceptions.KestraRuntimeException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import jakarta.inject.Inject;
+import org.apache.commons.io.FilenameUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+
+import static io.kestra.plugin.fs.sftp.SftpUtils.PASSWORD;
+import static io.kestra.plugin.fs.sftp.SftpUtils.USERNAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class CopyTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private SftpUtils sftpUtils;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void copyFileToDirectory(boolean serverSideCopy) throws Exception {
+        String from = "upload/" + IdUtils.create() + "/" + IdUtils.create() + ".yaml";
+        String to = "upload/" + IdUtils.create() + "-copy/" + IdUtils.create() + "/";
+
+        sftpUtils.upload(from);
+
+        Copy task = createCopyTask(from, to, false, serverSideCopy);
+
+        Copy.Output run = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(run.getTo().getPath(), containsString(to + FilenameUtils.getName(from)));
+        assertThat(sftpUtils.list(FilenameUtils.getPath(from)).getFiles(), hasSize(1));
+        assertThat(sftpUtils.list(to).getFiles(), hasSize(1));
+    }
+
+    @Test
+    void copyDirectory() throws Exception {
+        String from = "upload/" + IdUtils.create() + "/";
+        String to = "upload/" + IdUtils.create() + "-copy/" + IdUtils.create();
+
+        sftpUtils.upload(from + IdUtils.create() + ".yaml");
+        sftpUtils.upload(from + IdUtils.create() + ".yaml");
+
+        Copy task = createCopyTask(from, to, false, true);
+
+        task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(sftpUtils.list(to).getFiles(), hasSize(2));
+    }
+
+    @Test
+    void copyFile_fileExistsInDestination() throws Exception {
+        String fileName = "testFileName-" + IdUtils.create() + ".yaml";
+        String from = "upload/" + IdUtils.create() + "/" + fileName;
+        String to = "upload/" + IdUtils.create() + "-copy/" + fileName;
+
+        sftpUtils.upload(from);
+
+        Copy task = createCopyTask(from, to, false, true);
+        task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        KestraRuntimeException exception = assertThrows(
+            KestraRuntimeException.class,
+            () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()))
+        );
+        assertThat(exception.getMessage(), containsString(fileName));
+
+        Copy overwriteTask = createCopyTask(from, to, true, true);
+        Copy.Output run = overwriteTask.run(TestsUtils.mockRunContext(runContextFactory, overwriteTask, Map.of()));
+        assertThat(run.getTo().getPath(), containsString(to));
+    }
+
+    private static Copy createCopyTask(String from, String to, boolean overwrite, boolean serverSideCopy) {
+        return Copy.builder()
+            .id(CopyTest.class.getSimpleName())
+            .type(CopyTest.class.getName())
+            .from(Property.ofValue(from))
+            .to(Property.ofValue(to))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .overwrite(Property.ofValue(overwrite))
+            .serverSideCopy(Property.ofValue(serverSideCopy))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .build();
+    }
+}
@@ -132,4 +132,69 @@ class DownloadChecksumTest {
 
         assertThat(output.getChecksum(), is(md5(CONTENT)));
     }
+
+    @Test
+    void downloadInSegmentsWithMatchingChecksum() throws Exception {
+        String remotePath = uploadFixture();
+
+        Download task = downloadBuilder(remotePath)
+            .segments(Property.ofValue(3))
+            .segmentThreshold(Property.ofValue(0L))
+            .validateChecksum(Property.ofValue(true))
+            .checksumExpected(Property.ofValue(sha256(CONTENT)))
+            .build();
+
+        Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(output.getChecksum(), is(sha256(CONTENT)));
+    }
+
+    @Test
+    void downloadWithRemoteChecksumFallsBackWithoutShell() throws Exception {
+        String remotePath = uploadFixture();
+
+        // the test server only allows internal-sftp, so the checksum is computed after the download
+        Download task = downloadBuilder(remotePath)
+            .remoteChecksum(Property.ofValue(true))
+            .previousChecksum(Property.ofValue(sha256(CONTENT)))
+            .validateChecksum(Property.ofValue(true))
+            .checksumExpected(Property.ofValue(sha256(CONTENT)))
+            .build();
+
+        Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(output.getSkipped(), is(false));
+        assertThat(output.getTo(), notNullValue());
+        assertThat(output.getChecksum(), is(sha256(CONTENT)));
+    }
+
+    @Test
+    void downloadWithXxHash64Algorithm() throws Exception {
+        String remotePath = uploadFixture();
+
+        Download task = downloadBuilder(remotePath)
+            .checksumAlgorithm(Property.ofValue(ChecksumService.Algorithm.XXHASH64))
+            .build();
+
+        Output output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(output.getChecksum().length(), is(16));
+        assertThat(output.getChecksum(), is(HexFormat.of().formatHex(
+            ChecksumService.digest(ChecksumService.Algorithm.XXHASH64).digest(CONTENT.getBytes(StandardCharsets.UTF_8))
+        )));
+    }
+
+    @Test
+    void remoteChecksumRejectsNonCryptographicAlgorithms() {
+        Download task = downloadBuilder("upload/" + IdUtils.create() + ".txt")
+            .remoteChecksum(Property.ofValue(true))
+            .checksumAlgorithm(Property.ofValue(ChecksumService.Algorithm.CRC32C))
+            .build();
+
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()))
+        );
+        assertThat(ex.getMessage(), containsString("CRC32C"));
+    }
 }
@@ -141,4 +141,94 @@ class ListTest {
         run = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
         assertThat(run.getFiles().stream().map(File::getName).toList(), contains("newer.txt", "older.txt"));
     }
+
+    @Test
+    void streamingListsLikeVfs() throws Exception {
+        String dir = "/" + IdUtils.create();
+        sftpUtils.upload("upload" + dir + "/a.yaml");
+        sftpUtils.upload("upload" + dir + "/b.txt");
+        sftpUtils.upload("upload" + dir + "/sub/c.yaml");
+
+        List.ListBuilder<?, ?> builder = List.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(ListTest.class.getName())
+            .from(Property.ofValue("/upload/" + dir))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .rootDir(Property.ofValue(false))
+            .recursive(Property.ofValue(true))
+            .regExp(Property.ofValue(".*\\.yaml$"));
+
+        List vfsTask = builder.build();
+        List.Output vfs = vfsTask.run(TestsUtils.mockRunContext(runContextFactory, vfsTask, Map.of()));
+
+        List streamingTask = builder.listingStrategy(Property.ofValue(ListingStrategy.STREAMING)).build();
+        List.Output streaming = streamingTask.run(TestsUtils.mockRunContext(runContextFactory, streamingTask, Map.of()));
+
+        assertThat(
+            streaming.getFiles().stream().map(file -> file.getPath().getPath()).sorted().toList(),
+            is(vfs.getFiles().stream().map(file -> file.getPath().getPath()).sorted().toList())
+        );
+        streaming.getFiles().forEach(file -> {
+            assertThat(file.getSize(), is(greaterThan(0L)));
+            assertThat(file.getUpdatedDate(), is(notNullValue()));
+            assertThat(file.getPermissions(), is(notNullValue()));
+        });
+
+        List concurrentTask = builder.listingConcurrency(Property.ofValue(3)).build();
+        List.Output concurrent = concurrentTask.run(TestsUtils.mockRunContext(runContextFactory, concurrentTask, Map.of()));
+        assertThat(
+            concurrent.getFiles().stream().map(file -> file.getPath().getPath()).sorted().toList(),
+            is(vfs.getFiles().stream().map(file -> file.getPath().getPath()).sorted().toList())
+        );
+
+        // the test server only allows internal-sftp, find falls back to the streaming listing
+        List findTask = builder.listingStrategy(Property.ofValue(ListingStrategy.EXEC_FIND)).build();
+        List.Output find = findTask.run(TestsUtils.mockRunContext(runContextFactory, findTask, Map.of()));
+        assertThat(find.getFiles().size(), is(vfs.getFiles().size()));
+
+        streamingTask = builder.listingStrategy(Property.ofValue(ListingStrategy.STREAMING)).regExp(null).maxFiles(Property.ofValue(1)).build();
+        streaming = streamingTask.run(TestsUtils.mockRunContext(runContextFactory, streamingTask, Map.of()));
+        assertThat(streaming.getFiles().size(), is(1));
+    }
+
+    @Test
+    void streamingSkipsBrokenAndLoopingLinks() throws Exception {
+        String dir = "/upload/" + IdUtils.create();
+        sftpUtils.upload(dir.substring(1) + "/a.yaml");
+        sftpUtils.upload(dir.substring(1) + "/sub/b.yaml");
+
+        List task = List.builder()
+            .id(ListTest.class.getSimpleName())
+            .type(ListTest.class.getName())
+            .from(Property.ofValue(dir))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .rootDir(Property.ofValue(false))
+            .recursive(Property.ofValue(true))
+            .listingStrategy(Property.ofValue(ListingStrategy.STREAMING))
+            .build();
+        var runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        try (SftpConnection connection = SftpConnection.open(runContext, task, task, false)) {
+            var channel = connection.openSftpChannel();
+            try {
+                channel.symlink(connection.remotePath(dir + "/missing.yaml"), connection.remotePath(dir + "/broken.yaml"));
+                channel.symlink(connection.remotePath(dir), connection.remotePath(dir + "/sub/loop"));
+            } finally {
+                channel.disconnect();
+            }
+        }
+
+        List.Output run = task.run(runContext);
+
+        assertThat(
+            run.getFiles().stream().map(file -> file.getPath().getPath()).sorted().toList(),
+            contains(dir + "/a.yaml", dir + "/sub/b.yaml")
+        );
+    }
 }
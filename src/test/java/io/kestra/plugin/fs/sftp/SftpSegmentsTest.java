@@ -0,0 +1,28 @@
+package io.kestra.plugin.fs.sftp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class SftpSegmentsTest {
+    @Test
+    void splitCoversWholeFile() {
+        List<SftpSegments.Segment> segments = SftpSegments.split(10, 3);
+
+        assertThat(segments, is(List.of(
+            new SftpSegments.Segment(0, 0, 4),
+            new SftpSegments.Segment(1, 4, 8),
+            new SftpSegments.Segment(2, 8, 10)
+        )));
+    }
+
+    @Test
+    void splitNeverCreatesEmptySegments() {
+        assertThat(SftpSegments.split(2, 5).size(), is(2));
+        assertThat(SftpSegments.split(0, 4), empty());
+    }
+}
@@ -65,6 +65,81 @@ class SftpTest {
         assertThat(SftpFileSystemConfigBuilder.getInstance().getPreferredAuthentications(options), is("publickey"));
     }
 
+    @Test
+    void performanceProfile() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Upload uploadTask = Upload.builder()
+            .from(Property.ofValue("dummy"))
+            .to(Property.ofValue("upload"))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .performance(SftpInterface.Performance.builder()
+                .profile(Property.ofValue(SftpInterface.Performance.Profile.HIGH_LATENCY))
+                .blockSize(Property.ofValue(65536))
+                .compression(Property.ofValue(true))
+                .build()
+            )
+            .build();
+
+        SftpService.PerformanceSettings performance = SftpService.performance(runContext, uploadTask);
+        assertThat(performance.bulkRequests(), is(64));
+        assertThat(performance.blockSize(), is(65536));
+        assertThat(performance.ciphers().startsWith("aes128-gcm@openssh.com"), is(true));
+
+        FileSystemOptions options = SftpService.fsOptions(runContext, uploadTask);
+
+        assertThat(SftpFileSystemConfigBuilder.getInstance().getCompression(options), is(SftpService.COMPRESSION));
+        assertThat(SftpFileSystemConfigBuilder.getInstance().getConfigRepository(options), notNullValue());
+    }
+
+    @Test
+    void segmented() throws Exception {
+        File applicationFile = new File(Objects.requireNonNull(SftpTest.class.getClassLoader()
+            .getResource("application.yml"))
+            .toURI()
+        );
+        URI source = storageInterface.put(
+            TenantService.MAIN_TENANT,
+            null,
+            new URI("/" + FriendlyId.createFriendlyId()),
+            new FileInputStream(applicationFile)
+        );
+        RunContext runContext = runContextFactory.of();
+
+        String sftpPath = "upload/" + UUID.randomUUID();
+
+        Upload.builder()
+            .from(Property.ofValue(source.toString()))
+            .to(Property.ofValue(sftpPath))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .segments(Property.ofValue(4))
+            .segmentThreshold(Property.ofValue(0L))
+            .build()
+            .run(runContext);
+
+        Output output = Download.builder()
+            .from(Property.ofValue(sftpPath))
+            .host(Property.ofValue("localhost"))
+            .port(Property.ofValue("6622"))
+            .username(USERNAME)
+            .password(PASSWORD)
+            .segments(Property.ofValue(3))
+            .segmentThreshold(Property.ofValue(0L))
+            .build()
+            .run(runContext);
+
+        assertThat(
+            IOUtils.toByteArray(runContext.storage().getFile(output.getTo())),
+            is(Files.readAllBytes(applicationFile.toPath()))
+        );
+    }
+
     void testSftp(Boolean keyAuth) throws Exception {
         File applicationFile = new File(Objects.requireNonNull(SftpTest.class.getClassLoader()
             .getResource("application.yml"))
@@ -0,0 +1,75 @@
+package io.kestra.plugin.fs.transfer;
+
+import io.kestra.plugin.fs.vfs.ChecksumService;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamRelayTest {
+    @Test
+    void relaysContentAndComputesChecksum() throws Exception {
+        byte[] content = new byte[1_000_003];
+        new Random(42).nextBytes(content);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        StreamRelay.Result result = StreamRelay.relay(
+            new ByteArrayInputStream(content),
+            out,
+            4096,
+            ChecksumService.digest(ChecksumService.Algorithm.SHA_256)
+        );
+
+        assertThat(out.toByteArray(), is(content));
+        assertThat(result.size(), is((long) content.length));
+        assertThat(result.checksum(), is(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content))));
+    }
+
+    @Test
+    void relaysEmptyContent() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        StreamRelay.Result result = StreamRelay.relay(
+            new ByteArrayInputStream(new byte[0]),
+            out,
+            4096,
+            ChecksumService.digest(ChecksumService.Algorithm.SHA_256)
+        );
+
+        assertThat(result.size(), is(0L));
+        assertThat(out.size(), is(0));
+    }
+
+    @Test
+    void readFailureIsRethrown() {
+        InputStream failing = new InputStream() {
+            private int read = 0;
+
+            @Override
+            public int read() throws IOException {
+                if (read++ > 10_000) {
+                    throw new IOException("connection reset");
+                }
+                return 1;
+            }
+        };
+
+        IOException exception = assertThrows(IOException.class, () -> StreamRelay.relay(
+            failing,
+            new ByteArrayOutputStream(),
+            1024,
+            ChecksumService.digest(ChecksumService.Algorithm.SHA_256)
+        ));
+
+        assertThat(exception.getMessage(), is("connection reset"));
+    }
+}
@@ -0,0 +1,77 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContextFactory;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class AdaptiveConcurrencyTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void transfersAllItemsWithinTheMaximum() throws Exception {
+        AdaptiveConcurrency concurrency = new AdaptiveConcurrency(runContextFactory.of(), 4, e -> false);
+        Set<Integer> done = ConcurrentHashMap.newKeySet();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        concurrency.forEach(IntStream.range(0, 50).boxed().toList(), item -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            done.add(item);
+            return 1024;
+        });
+
+        assertThat(done.size(), is(50));
+        assertThat(peak.get(), lessThanOrEqualTo(4));
+        assertThat(concurrency.limit(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    void overloadHalvesTheConcurrencyAndRetries() throws Exception {
+        AdaptiveConcurrency concurrency = new AdaptiveConcurrency(runContextFactory.of(), 4, e -> false);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger limitOnRetry = new AtomicInteger();
+
+        concurrency.forEach(List.of(0, 1, 2), item -> {
+            if (item == 0 && attempts.getAndIncrement() == 0) {
+                throw new ConnectException("Connection refused");
+            }
+            if (item == 0) {
+                limitOnRetry.set(concurrency.limit());
+            }
+            return 1024;
+        });
+
+        assertThat(attempts.get(), is(2));
+        assertThat(limitOnRetry.get(), is(1));
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AdaptiveConcurrency concurrency = new AdaptiveConcurrency(runContextFactory.of(), 2, e -> false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> concurrency.forEach(List.of(0), item -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(attempts.get(), is(1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrency(runContextFactory.of(), 0, e -> false));
+    }
+}
@@ -0,0 +1,59 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.utils.IdUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BandwidthTest {
+    private static final int SIZE = 100 * 1024;
+
+    @Test
+    void pacesReads() throws Exception {
+        Bandwidth bandwidth = Bandwidth.of(500L * 1024);
+
+        long start = System.nanoTime();
+        try (InputStream in = bandwidth.wrap(new ByteArrayInputStream(new byte[SIZE]))) {
+            assertThat(in.readAllBytes().length, is(SIZE));
+        }
+
+        // 100 KiB at 500 KiB/s, less the burst allowance
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(150L));
+    }
+
+    @Test
+    void hostLimitIsShared() throws Exception {
+        String host = IdUtils.create();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            try (OutputStream out = Bandwidth.of(null, host, "21", 1024L * 1024).wrap(target)) {
+                out.write(new byte[SIZE]);
+            }
+            assertThat(target.size(), is(SIZE));
+        }
+
+        // twice 100 KiB at 1 MiB/s for the server, whichever task sends them
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(150L));
+    }
+
+    @Test
+    void unlimited() {
+        InputStream in = new ByteArrayInputStream(new byte[0]);
+
+        assertThat(Bandwidth.of(null, "localhost", "21", null), sameInstance(Bandwidth.UNLIMITED));
+        assertThat(Bandwidth.UNLIMITED.wrap(in), sameInstance(in));
+        assertThrows(IllegalArgumentException.class, () -> Bandwidth.of(0L));
+    }
+}
@@ -0,0 +1,54 @@
+package io.kestra.plugin.fs.vfs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BufferPoolTest {
+    @Test
+    void copiesReuseTheBuffers() throws Exception {
+        byte[] content = new byte[BufferPool.bufferSize() * 3 + 17];
+        new Random(42).nextBytes(content);
+
+        long allocations = BufferPool.allocations();
+        for (int i = 0; i < 10; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThat(BufferPool.copy(new ByteArrayInputStream(content), out), is((long) content.length));
+            assertThat(out.toByteArray(), is(content));
+        }
+
+        // one buffer at most, the pool may still be empty
+        assertThat(BufferPool.allocations() - allocations, lessThanOrEqualTo(1L));
+    }
+
+    @Test
+    void copyToPath(@TempDir Path dir) throws Exception {
+        Path target = dir.resolve("file.txt");
+        Files.writeString(target, "previous content, longer than the new one");
+
+        assertThrows(FileAlreadyExistsException.class, () -> BufferPool.copy(new ByteArrayInputStream(new byte[1]), target));
+
+        BufferPool.copy(new ByteArrayInputStream("new".getBytes()), target, StandardCopyOption.REPLACE_EXISTING);
+        assertThat(Files.readString(target), is("new"));
+    }
+
+    @Test
+    void closedBufferCannotBeUsed() {
+        BufferPool.Buffer buffer = BufferPool.acquire();
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, buffer::bytes);
+    }
+}
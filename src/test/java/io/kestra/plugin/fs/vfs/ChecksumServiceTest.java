@@ -9,6 +9,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -91,4 +95,53 @@ class ChecksumServiceTest {
             () -> ChecksumService.verify(file, ChecksumService.Algorithm.SHA_256, "   ")
         );
     }
+
+    @Test
+    void computeSeveralInOnePass() throws IOException {
+        Map<ChecksumService.Algorithm, String> checksums = ChecksumService.compute(
+            file,
+            EnumSet.of(ChecksumService.Algorithm.MD5, ChecksumService.Algorithm.SHA_256)
+        );
+
+        assertThat(checksums.get(ChecksumService.Algorithm.MD5), is(HELLO_WORLD_MD5));
+        assertThat(checksums.get(ChecksumService.Algorithm.SHA_256), is(HELLO_WORLD_SHA_256));
+    }
+
+    @Test
+    void computeCrc32c() throws IOException {
+        Files.writeString(file, "123456789", StandardCharsets.UTF_8);
+
+        assertThat(ChecksumService.compute(file, ChecksumService.Algorithm.CRC32C), is("e3069283"));
+    }
+
+    @Test
+    void computeXxHash64() throws IOException {
+        Map<String, String> vectors = Map.of(
+            "", "ef46db3751d8e999",
+            "a", "d24ec4f1a98c6e5b",
+            "abc", "44bc2cf5ad770999",
+            "Nobody inspects the spammish repetition", "fbcea83c8a378bf1"
+        );
+
+        for (Map.Entry<String, String> vector : vectors.entrySet()) {
+            Files.writeString(file, vector.getKey(), StandardCharsets.UTF_8);
+            assertThat(ChecksumService.compute(file, ChecksumService.Algorithm.XXHASH64), is(vector.getValue()));
+        }
+    }
+
+    @Test
+    void xxHash64DoesNotDependOnChunking() {
+        byte[] content = new byte[1000];
+        new Random(42).nextBytes(content);
+
+        MessageDigest whole = ChecksumService.digest(ChecksumService.Algorithm.XXHASH64);
+        whole.update(content);
+
+        MessageDigest chunked = ChecksumService.digest(ChecksumService.Algorithm.XXHASH64);
+        for (int offset = 0; offset < content.length; offset += 7) {
+            chunked.update(content, offset, Math.min(7, content.length - offset));
+        }
+
+        assertThat(chunked.digest(), is(whole.digest()));
+    }
 }
@@ -0,0 +1,119 @@
+package io.kestra.plugin.fs.vfs;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class HostSessionsTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void waitsForAFreeSession() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String host = IdUtils.create();
+
+        HostSessions.Lease first = HostSessions.acquire(runContext, host, "22", 1, 1);
+        CompletableFuture<HostSessions.Lease> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return HostSessions.acquire(runContext, host, "22", 1, 1);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS).close();
+
+        // another port of the same host is another server
+        try (HostSessions.Lease ignored = HostSessions.acquire(runContext, host, "22", 1, 1)) {
+            HostSessions.acquire(runContext, host, "21", 1, 1).close();
+        }
+    }
+
+    @Test
+    void sessionsAboveTheLimitTakeTheWholeLimit() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String host = IdUtils.create();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            try (HostSessions.Lease lease = HostSessions.acquire(runContext, host, "21", 2, 8)) {
+                assertThat(lease.sessions(), is(2));
+
+                Future<HostSessions.Lease> other = executor.submit(() -> HostSessions.acquire(runContext, host, "21", 2, 1));
+
+                assertThrows(TimeoutException.class, () -> other.get(200, TimeUnit.MILLISECONDS));
+                // interrupts the waiting thread, which never takes the session
+                other.cancel(true);
+                assertThrows(CancellationException.class, other::get);
+            }
+
+            // all the sessions are free again
+            Future<HostSessions.Lease> all = executor.submit(() -> HostSessions.acquire(runContext, host, "21", 2, 2));
+            all.get(5, TimeUnit.SECONDS).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingTasksAreNotOvertaken() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String host = IdUtils.create();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            HostSessions.Lease first = HostSessions.acquire(runContext, host, "22", 2, 1);
+
+            Future<HostSessions.Lease> large = executor.submit(() -> HostSessions.acquire(runContext, host, "22", 2, 2));
+            assertThrows(TimeoutException.class, () -> large.get(200, TimeUnit.MILLISECONDS));
+
+            // a session is free, but the task waiting for two of them comes first
+            Future<HostSessions.Lease> small = executor.submit(() -> HostSessions.acquire(runContext, host, "22", 2, 1));
+            assertThrows(TimeoutException.class, () -> small.get(200, TimeUnit.MILLISECONDS));
+
+            first.close();
+            HostSessions.Lease largeLease = large.get(5, TimeUnit.SECONDS);
+            assertThat(largeLease.sessions(), is(2));
+            assertThat(small.isDone(), is(false));
+
+            largeLease.close();
+            small.get(5, TimeUnit.SECONDS).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void noLimit() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String host = IdUtils.create();
+
+        HostSessions.Lease first = HostSessions.acquire(runContext, host, "22", null, 1);
+        HostSessions.Lease second = HostSessions.acquire(runContext, host, "22", null, 8);
+        assertThat(second.sessions(), is(8));
+        first.close();
+        second.close();
+
+        assertThrows(IllegalArgumentException.class, () -> HostSessions.acquire(runContext, host, "22", 0, 1));
+    }
+}
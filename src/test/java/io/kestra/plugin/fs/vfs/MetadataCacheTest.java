@@ -0,0 +1,31 @@
+package io.kestra.plugin.fs.vfs;
+
+import org.apache.commons.vfs2.FileType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class MetadataCacheTest {
+    @Test
+    void writtenFileMarksItsParentAsKnownFolder() {
+        MetadataCache cache = new MetadataCache();
+
+        cache.written("/upload/2024/file.csv", FileType.FILE);
+
+        assertThat(cache.isKnownFolder("/upload/2024"), is(true));
+        assertThat(cache.isKnownFolder("/upload/2024/"), is(true));
+        assertThat(cache.isKnownFolder("/upload/2024/file.csv"), is(false));
+    }
+
+    @Test
+    void removedFolderIsForgotten() {
+        MetadataCache cache = new MetadataCache();
+
+        cache.written("/upload/archive", FileType.FOLDER);
+        assertThat(cache.isKnownFolder("upload/archive"), is(true));
+
+        cache.removed("/upload/archive/");
+        assertThat(cache.isKnownFolder("/upload/archive"), is(false));
+    }
+}
@@ -0,0 +1,48 @@
+package io.kestra.plugin.fs.vfs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardTest {
+    @Test
+    void everyPathBelongsToExactlyOneShard() {
+        int count = 4;
+        java.util.List<Shard.Assignment> shards = IntStream.range(0, count)
+            .mapToObj(index -> Shard.Assignment.of(index, count))
+            .toList();
+
+        IntStream.range(0, 1000)
+            .mapToObj(i -> "/upload/2024/01/file-" + i + ".csv")
+            .forEach(path -> assertThat(shards.stream().filter(shard -> shard.owns(path)).count(), is(1L)));
+    }
+
+    @Test
+    void assignmentIsStable() {
+        assertThat(Shard.Assignment.shardOf("/upload/file.csv", 8), is(Shard.Assignment.shardOf("/upload/file.csv", 8)));
+    }
+
+    @Test
+    void singleShardOwnsEverything() {
+        Shard.Assignment shard = Shard.Assignment.of(0, 1);
+
+        assertThat(shard.owns("/a"), is(true));
+        assertThat(shard.owns("/b/c.txt"), is(true));
+    }
+
+    @Test
+    void stateKeyIsPerShard() {
+        assertThat(Shard.Assignment.of(1, 3).stateKey("key"), is("key_shard_1_of_3"));
+    }
+
+    @Test
+    void invalidShard() {
+        assertThrows(IllegalArgumentException.class, () -> Shard.Assignment.of(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Shard.Assignment.of(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> Shard.Assignment.of(-1, 3));
+    }
+}
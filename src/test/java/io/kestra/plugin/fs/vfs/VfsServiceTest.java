@@ -0,0 +1,97 @@
+package io.kestra.plugin.fs.vfs;
+
+import org.apache.commons.vfs2.FileObject;
+import org.apache.commons.vfs2.impl.StandardFileSystemManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VfsServiceTest {
+    @Test
+    void forEachConcurrentlyProcessesEveryItem() throws Exception {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        VfsService.forEachConcurrently(IntStream.range(0, 50).boxed().toList(), 4, processed::add);
+
+        assertThat(processed, hasSize(50));
+    }
+
+    @Test
+    void forEachConcurrentlyKeepsGoingAfterFailure() {
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+
+        IOException exception = assertThrows(IOException.class, () -> VfsService.forEachConcurrently(
+            IntStream.range(0, 10).boxed().toList(),
+            4,
+            item -> {
+                if (item % 5 == 0) {
+                    throw new IOException("failed " + item);
+                }
+                processed.add(item);
+            }
+        ));
+
+        assertThat(processed, hasSize(8));
+        assertThat(exception.getSuppressed(), arrayWithSize(1));
+    }
+
+    @Test
+    void downloadResumesFromPartialFile(@TempDir Path dir) throws Exception {
+        byte[] content = new byte[100_000];
+        new Random(7).nextBytes(content);
+        Path remote = Files.write(dir.resolve("remote.bin"), content);
+        Path partial = Files.write(dir.resolve("partial.bin"), Arrays.copyOf(content, 40_000));
+
+        try (StandardFileSystemManager fsm = new StandardFileSystemManager()) {
+            fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
+            fsm.init();
+
+            VfsService.downloadFromOffset(
+                new VfsDownloadRequest(null, fsm, null, remote.toUri(), false, null, ChecksumService.Algorithm.SHA_256, 3, null, 1),
+                partial.toFile()
+            );
+        }
+
+        assertThat(Files.readAllBytes(partial), is(content));
+    }
+
+    @Test
+    void uploadResumesOnlyFromMatchingPrefix(@TempDir Path dir) throws Exception {
+        byte[] content = new byte[200_000];
+        new Random(7).nextBytes(content);
+        Path local = Files.write(dir.resolve("local.bin"), content);
+        Path prefix = Files.write(dir.resolve("prefix.bin"), Arrays.copyOf(content, 150_000));
+
+        byte[] corrupted = Arrays.copyOf(content, 150_000);
+        corrupted[149_999]++;
+        Path mismatch = Files.write(dir.resolve("mismatch.bin"), corrupted);
+
+        Path larger = Files.write(dir.resolve("larger.bin"), Arrays.copyOf(content, 250_000));
+
+        try (StandardFileSystemManager fsm = new StandardFileSystemManager()) {
+            fsm.setConfiguration(StandardFileSystemManager.class.getResource(KestraStandardFileSystemManager.CONFIG_RESOURCE));
+            fsm.init();
+
+            FileObject localFile = fsm.resolveFile(local.toUri());
+
+            assertThat(VfsService.resumableOffset(localFile, fsm.resolveFile(prefix.toUri()), content.length), is(150_000L));
+            assertThat(VfsService.resumableOffset(localFile, fsm.resolveFile(mismatch.toUri()), content.length), is(0L));
+            assertThat(VfsService.resumableOffset(localFile, fsm.resolveFile(larger.toUri()), content.length), is(0L));
+            assertThat(VfsService.resumableOffset(localFile, fsm.resolveFile(dir.resolve("missing.bin").toUri()), content.length), is(0L));
+        }
+    }
+}